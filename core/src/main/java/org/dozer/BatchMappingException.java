@@ -0,0 +1,43 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Collections;
+import java.util.SortedMap;
+
+/**
+ * Thrown when elements of a parallel batch mapping failed. Every element of the batch is mapped, so the failures of
+ * all elements are available by their index in the batch, independent of the order the elements were mapped in.
+ * The first failure is the cause of this exception.
+ */
+public class BatchMappingException extends MappingException {
+
+  private final SortedMap<Integer, RuntimeException> failures;
+
+  public BatchMappingException(int batchSize, SortedMap<Integer, RuntimeException> failures) {
+    super("Failed to map " + failures.size() + " of " + batchSize + " elements, first failure at index "
+        + failures.firstKey(), failures.get(failures.firstKey()));
+    this.failures = Collections.unmodifiableSortedMap(failures);
+  }
+
+  /**
+   * @return failures by index of the failed element in the batch
+   */
+  public SortedMap<Integer, RuntimeException> getFailures() {
+    return failures;
+  }
+
+}
@@ -18,8 +18,10 @@ package org.dozer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.dozer.builder.DestBeanBuilderCreator;
 import org.dozer.cache.CacheManager;
@@ -29,13 +31,16 @@ import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.MappingFileData;
 import org.dozer.classmap.generator.BeanMappingGenerator;
+import org.dozer.compiler.ClassMapCompiler;
 import org.dozer.config.BeanContainer;
 import org.dozer.config.Settings;
 import org.dozer.event.DozerEventManager;
+import org.dozer.event.DozerEventType;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.metadata.DozerMappingMetadata;
 import org.dozer.metadata.MappingMetadata;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
+import org.dozer.util.MappingValidator;
 
 /**
  * Public Dozer Mapper implementation. This should be used/defined as a singleton within your application. This class
@@ -83,6 +88,7 @@ public class DozerBeanMapper implements Mapper {
   // There are no global caches. Caches are per bean mapper instance
   private final CacheManager cacheManager;
   private DozerEventManager eventManager;
+  private MappingProcessorFactory mappingProcessorFactory;
 
   DozerBeanMapper(List<String> mappingFiles,
                   Settings settings,
@@ -113,7 +119,7 @@ public class DozerBeanMapper implements Mapper {
     this.mappingFiles = new ArrayList<>(mappingFiles);
     this.customFieldMapper = customFieldMapper;
     this.customConvertersWithId = new HashMap<>(customConvertersWithId);
-    this.eventManager = new DozerEventManager(eventListeners);
+    this.eventManager = new DozerEventManager(this.eventListeners);
     this.customMappings = customMappings;
     this.globalConfiguration = globalConfiguration;
 
@@ -124,28 +130,75 @@ public class DozerBeanMapper implements Mapper {
    * {@inheritDoc}
    */
   public void map(Object source, Object destination, String mapId) throws MappingException {
-    getMappingProcessor().map(source, destination, mapId);
+    Mapper processor = getMappingProcessor();
+    try {
+      processor.map(source, destination, mapId);
+    } finally {
+      release(processor);
+    }
   }
 
   /**
    * {@inheritDoc}
    */
   public <T> T map(Object source, Class<T> destinationClass, String mapId) throws MappingException {
-    return getMappingProcessor().map(source, destinationClass, mapId);
+    Mapper processor = getMappingProcessor();
+    try {
+      return processor.map(source, destinationClass, mapId);
+    } finally {
+      release(processor);
+    }
   }
 
   /**
    * {@inheritDoc}
    */
   public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
-    return getMappingProcessor().map(source, destinationClass);
+    Mapper processor = getMappingProcessor();
+    try {
+      return processor.map(source, destinationClass);
+    } finally {
+      release(processor);
+    }
   }
 
   /**
    * {@inheritDoc}
    */
   public void map(Object source, Object destination) throws MappingException {
-    getMappingProcessor().map(source, destination);
+    Mapper processor = getMappingProcessor();
+    try {
+      processor.map(source, destination);
+    } finally {
+      release(processor);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+    Mapper processor = getMappingProcessor();
+    try {
+      return processor.mapAll(sources, destinationClass, mapId);
+    } finally {
+      release(processor);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> List<T> mapAll(List<?> sources, Class<T> destinationClass, String mapId, Executor executor) throws MappingException {
+    return ParallelBatchMapping.mapAll(mappingProcessorFactory, sources, destinationClass, mapId, executor);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+    MappingValidator.validateMappingRequest(sources, destinationClass);
+    return new MappingIterator<T>(mappingProcessorFactory, sources, destinationClass, mapId);
   }
 
   private void init() {
@@ -153,6 +206,21 @@ public class DozerBeanMapper implements Mapper {
     // are not shared across the VM.
     cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), settings.getConverterByDestTypeCacheMaxSize());
     cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), settings.getSuperTypesCacheMaxSize());
+
+    // compiled field mappings skip the dest value writing events and custom field mapper callbacks,
+    // so only enable them when nothing consumes those
+    ClassMapCompiler classMapCompiler = null;
+    if (Boolean.TRUE.equals(settings.getCompiledClassMapsEnabled()) && customFieldMapper == null
+        && !eventManager.hasListeners(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE)
+        && !eventManager.hasListeners(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE)) {
+      classMapCompiler = new ClassMapCompiler(cacheManager.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name()));
+    }
+
+    // everything but the tracking of already mapped objects is shared by the mapping processors of this mapper
+    mappingProcessorFactory = new MappingProcessorFactory(customMappings, globalConfiguration, cacheManager, customConverters,
+            eventManager, customFieldMapper, customConvertersWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
+            beanMappingGenerator, propertyDescriptorFactory, classMapCompiler,
+            Boolean.TRUE.equals(settings.getTreeModeEnabled()));
   }
 
   public void destroy() {
@@ -160,11 +228,14 @@ public class DozerBeanMapper implements Mapper {
   }
 
   protected Mapper getMappingProcessor() {
-    Mapper processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, customConverters,
-            eventManager, customFieldMapper, customConvertersWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
-            beanMappingGenerator, propertyDescriptorFactory);
+    return mappingProcessorFactory.create();
+  }
 
-    return processor;
+  // every call gets its own processor, its tracking of mapped objects can be reused by the next call
+  private static void release(Mapper processor) {
+    if (processor instanceof MappingProcessor) {
+      ((MappingProcessor) processor).releaseMappedObjects();
+    }
   }
 
   /**
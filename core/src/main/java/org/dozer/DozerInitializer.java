@@ -24,6 +24,7 @@ import org.dozer.config.BeanContainer;
 import org.dozer.config.Settings;
 import org.dozer.config.SettingsDefaults;
 import org.dozer.factory.DestBeanCreator;
+import org.dozer.propertydescriptor.PropertyAccessorType;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
 import org.dozer.util.DefaultClassLoader;
 import org.dozer.util.DozerClassLoader;
@@ -79,6 +80,7 @@ public final class DozerInitializer {
                   DestBeanCreator destBeanCreator) {
     registerClassLoader(settings, classLoader, beanContainer);
     registerProxyResolver(settings, beanContainer);
+    registerPropertyAccessor(settings, beanContainer);
 
     try {
       ServiceLoader<DozerModule> services = ServiceLoader.load(DozerModule.class);
@@ -115,6 +117,13 @@ public final class DozerInitializer {
     }
   }
 
+  private void registerPropertyAccessor(Settings settings, BeanContainer beanContainer) {
+    String propertyAccessor = settings.getPropertyAccessor();
+    if (!SettingsDefaults.PROPERTY_ACCESSOR.equals(propertyAccessor)) {
+      beanContainer.setPropertyAccessorType(PropertyAccessorType.fromValue(propertyAccessor));
+    }
+  }
+
   private <T> Class<? extends T> loadBeanType(String classLoaderName, DozerClassLoader classLoader, Class<T> iface) {
     Class<?> beanType = classLoader.loadClass(classLoaderName);
     if (beanType != null && !iface.isAssignableFrom(beanType)) {
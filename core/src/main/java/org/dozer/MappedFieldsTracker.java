@@ -15,41 +15,89 @@
  */
 package org.dozer;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Keeps track of mapped object during this mapping process execution.
  * Objects, which are referenced multiple types in object hierarchy will be fetched from here
  * to retain referential integrity of resulting object graph.
  *
+ * <p>
+ * Sources are compared by identity in an open addressing table holding one entry per source, destination and map id,
+ * so tracking an object does not allocate anything until the table grows. Once a mapping completes, its cleared table
+ * is kept for the tracker of the next mapping on the same thread. Only the plain array is kept, so pooled threads do
+ * not retain Dozer classes.
+ *
  * @author dmitry.buzdin
  */
 public class MappedFieldsTracker {
 
+  private static final int INITIAL_CAPACITY = 32;
+  // larger tables are not kept for reuse, not to retain the memory of an exceptionally large mapping
+  private static final int MAX_REUSED_CAPACITY = 4096;
+  private static final Object NULL_KEY = new Object();
+  private static final Object[] RELEASED = new Object[0];
+
+  private static final ThreadLocal<Object[]> REUSABLE = new ThreadLocal<Object[]>();
+
   // Hash Code is ignored as it can serve application specific needs
-  // <srcObject, <hashCodeOfDestination, mappedDestinationMapIdField>>
-  private final Map<Object, Map<Integer, MapIdField>> mappedFields = new IdentityHashMap<Object, Map<Integer, MapIdField>>();
+  // entry i is [3 * i] = srcObject, [3 * i + 1] = mappedDestination, [3 * i + 2] = mapId, empty entries have no srcObject
+  private Object[] table;
+  private int size;
 
+  public MappedFieldsTracker() {
+    this(new Object[INITIAL_CAPACITY * 3]);
+  }
 
-  public void put(Object src, Object dest, String mapId) {
-    int destId = System.identityHashCode(dest);
+  private MappedFieldsTracker(Object[] table) {
+    this.table = table;
+  }
 
-    Map<Integer, MapIdField> mappedTo = mappedFields.get(src);
-    if (mappedTo == null) {
-      mappedTo = new HashMap<Integer, MapIdField>();
-      mappedFields.put(src, mappedTo);
+  /**
+   * @return a new tracker backed by the table released on this thread, if any
+   */
+  static MappedFieldsTracker acquire() {
+    Object[] table = REUSABLE.get();
+    if (table == null) {
+      return new MappedFieldsTracker();
     }
+    REUSABLE.remove();
+    return new MappedFieldsTracker(table);
+  }
 
-    MapIdField destMapIdField = mappedTo.get(destId);
-    if (destMapIdField == null) {
-      destMapIdField = new MapIdField();
-      mappedTo.put(destId, destMapIdField);
+  /**
+   * Makes the table of the tracker available to the next {@link #acquire()} on this thread. The tracker must not be
+   * used anymore.
+   */
+  static void release(MappedFieldsTracker tracker) {
+    Object[] released = tracker.table;
+    if (released.length == 0 || released.length > MAX_REUSED_CAPACITY * 3) {
+      return;
+    }
+    if (tracker.size > 0) {
+      Arrays.fill(released, null);
     }
+    tracker.table = RELEASED;
+    tracker.size = 0;
+    REUSABLE.set(released);
+  }
 
-    if (!destMapIdField.containsMapId(mapId)) {
-      destMapIdField.put(mapId, dest);
+  public void put(Object src, Object dest, String mapId) {
+    Object key = src != null ? src : NULL_KEY;
+    int index = indexFor(key, table.length);
+    Object[] tab = table;
+    while (tab[index] != null) {
+      if (tab[index] == key && tab[index + 1] == dest && isSameMapId(mapId, tab[index + 2])) {
+        return;
+      }
+      index = nextIndex(index, tab.length);
+    }
+    tab[index] = key;
+    tab[index + 1] = dest;
+    tab[index + 2] = mapId;
+    // keep at least a third of the entries empty
+    if (++size * 3 > tab.length * 2 / 3) {
+      resize();
     }
   }
 
@@ -58,16 +106,20 @@ public class MappedFieldsTracker {
   }
 
   public Object getMappedValue(Object src, Class<?> destType, String mapId) {
-    Map<Integer, MapIdField> alreadyMappedFields = mappedFields.get(src);
-    if (alreadyMappedFields != null) {
-      for (MapIdField alreadyMappedField : alreadyMappedFields.values()) {
-        Object mappedValue = alreadyMappedField.get(mapId);
+    Object key = src != null ? src : NULL_KEY;
+    Object[] tab = table;
+    int index = indexFor(key, tab.length);
+    Object candidate;
+    while ((candidate = tab[index]) != null) {
+      if (candidate == key && isSameMapId(mapId, tab[index + 2])) {
+        Object mappedValue = tab[index + 1];
         // 1664984 - bi-directionnal mapping with sets & subclasses
         if (mappedValue != null && destType.isAssignableFrom(mappedValue.getClass())) {
           // Source value has already been mapped to the required destFieldType.
           return mappedValue;
         }
       }
+      index = nextIndex(index, tab.length);
     }
     return null;
   }
@@ -75,4 +127,36 @@ public class MappedFieldsTracker {
   public Object getMappedValue(Object src, Class<?> destType) {
     return getMappedValue(src, destType, null);
   }
+
+  private void resize() {
+    Object[] oldTable = table;
+    Object[] newTable = new Object[oldTable.length * 2];
+    for (int i = 0; i < oldTable.length; i += 3) {
+      Object key = oldTable[i];
+      if (key != null) {
+        int index = indexFor(key, newTable.length);
+        while (newTable[index] != null) {
+          index = nextIndex(index, newTable.length);
+        }
+        newTable[index] = key;
+        newTable[index + 1] = oldTable[i + 1];
+        newTable[index + 2] = oldTable[i + 2];
+      }
+    }
+    table = newTable;
+  }
+
+  private static boolean isSameMapId(String mapId, Object entryMapId) {
+    return mapId == null ? entryMapId == null : mapId.equals(entryMapId);
+  }
+
+  private static int indexFor(Object key, int length) {
+    int hash = System.identityHashCode(key);
+    // length is three times a power of two
+    return ((hash ^ (hash >>> 16)) & (length / 3 - 1)) * 3;
+  }
+
+  private static int nextIndex(int index, int length) {
+    return index + 3 < length ? index + 3 : 0;
+  }
 }
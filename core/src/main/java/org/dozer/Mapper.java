@@ -15,7 +15,19 @@
  */
 package org.dozer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.dozer.metadata.MappingMetadata;
+import org.dozer.util.MappingValidator;
 
 /**
  * Public root interface for performing Dozer mappings from application code.
@@ -67,6 +79,195 @@ public interface Mapper {
      */
     void map(Object source, Object destination, String mapId) throws MappingException;
 
+    /**
+     * Constructs new instances of destinationClass for every element of sources. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T> type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     * @see #mapAll(Iterable, Class, String)
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * Constructs new instances of destinationClass for every element of sources. Null elements are mapped to null.
+     * <p>
+     * Implementations may resolve the mapping once per distinct source class of the batch and fire a single pair of
+     * mapping started and finished events for the whole batch, having sources as source object and the resulting list
+     * as destination object.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param <T> type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        List<T> result = sources instanceof Collection ? new ArrayList<T>(((Collection<?>) sources).size()) : new ArrayList<T>();
+        for (Object source : sources) {
+            result.add(source != null ? map(source, destinationClass, mapId) : null);
+        }
+        return result;
+    }
+
+    /**
+     * Constructs new instances of destinationClass for every element of sources. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T> type to convert to
+     * @return mapped objects in the order of sources
+     * @throws MappingException mapping failure
+     * @see #mapAll(Iterable, Class, String)
+     */
+    default <T> List<T> mapAll(Object[] sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * Constructs new instances of destinationClass for every element of sources. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param <T> type to convert to
+     * @return mapped objects in the order of sources
+     * @throws MappingException mapping failure
+     * @see #mapAll(Iterable, Class, String)
+     */
+    default <T> List<T> mapAll(Object[] sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        return mapAll(Arrays.asList(sources), destinationClass, mapId);
+    }
+
+    /**
+     * Constructs new instances of destinationClass for every element of sources, mapping chunks of sources in parallel
+     * on the given executor, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()} or a dedicated thread pool.
+     * Null elements are mapped to null.
+     * <p>
+     * Every element is mapped with its own tracking of already mapped objects, as by separate
+     * {@link #map(Object, Class, String)} calls, so the result does not depend on how sources are split into chunks and
+     * is the same as the one of {@link #mapAll(Iterable, Class, String)}. Event listeners and custom converters are
+     * called from the executor threads.
+     * A failing element does not stop the mapping of the other elements. Once all elements are mapped, the failures
+     * are reported by a {@link BatchMappingException} in the order of sources. The mapping finished event is fired
+     * before the exception is thrown.
+     * <p>
+     * Implementations which do not support parallel mapping map sources on the calling thread.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param executor executor to map chunks of sources on
+     * @param <T> type to convert to
+     * @return mapped objects in the order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(List<?> sources, Class<T> destinationClass, String mapId, Executor executor) throws MappingException {
+        return mapAll(sources, destinationClass, mapId);
+    }
+
+    /**
+     * Constructs new instances of destinationClass for every element of sources, mapping chunks of sources in parallel
+     * on the given executor. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param executor executor to map chunks of sources on
+     * @param <T> type to convert to
+     * @return mapped objects in the order of sources
+     * @throws MappingException mapping failure
+     * @see #mapAll(List, Class, String, Executor)
+     */
+    default <T> List<T> mapAll(Object[] sources, Class<T> destinationClass, String mapId, Executor executor) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        return mapAll(Arrays.asList(sources), destinationClass, mapId, executor);
+    }
+
+    /**
+     * Returns an iterator constructing new instances of destinationClass for the elements of sources as they are
+     * pulled. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T> type to convert to
+     * @return iterator over the mapped objects
+     * @throws MappingException mapping failure
+     * @see #mapIterator(Iterator, Class, String)
+     */
+    default <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapIterator(sources, destinationClass, null);
+    }
+
+    /**
+     * Returns an iterator constructing new instances of destinationClass for the elements of sources as they are
+     * pulled. Null elements are mapped to null. Neither sources nor the mapped objects are retained by the iterator.
+     * <p>
+     * Implementations may resolve the mapping once per distinct source class and fire a single pair of mapping started
+     * and finished events for the whole iteration, when the first element is pulled and when sources are exhausted.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param <T> type to convert to
+     * @return iterator over the mapped objects
+     * @throws MappingException mapping failure
+     */
+    default <T> Iterator<T> mapIterator(Iterator<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        return new Iterator<T>() {
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            public T next() {
+                Object source = sources.next();
+                return source != null ? map(source, destinationClass, mapId) : null;
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream constructing new instances of destinationClass for the elements of sources as they
+     * are consumed. Null elements are mapped to null.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T> type to convert to
+     * @return stream of the mapped objects
+     * @throws MappingException mapping failure
+     * @see #mapIterator(Iterator, Class, String)
+     */
+    default <T> Stream<T> mapStream(Stream<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapStream(sources, destinationClass, null);
+    }
+
+    /**
+     * Returns a sequential stream constructing new instances of destinationClass for the elements of sources as they
+     * are consumed. Null elements are mapped to null. Closing the returned stream closes sources.
+     *
+     * @param sources objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId id in configuration for mapping
+     * @param <T> type to convert to
+     * @return stream of the mapped objects
+     * @throws MappingException mapping failure
+     * @see #mapIterator(Iterator, Class, String)
+     */
+    default <T> Stream<T> mapStream(Stream<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        Iterator<T> iterator = mapIterator(sources.iterator(), destinationClass, mapId);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(sources::close);
+    }
+
     /**
      * The {@link org.dozer.metadata.MappingMetadata} interface can be used to query information about the current
      * mapping definitions. It provides read only access to all important classes and field
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.dozer.event.DozerEventType;
+
+/**
+ * Internal iterator mapping the elements of a source iterator as they are pulled. The mapping plans are shared by all
+ * elements, but every element is mapped by its own {@link MappingProcessor}, so no mapped objects are retained between
+ * elements. Only intended for internal use.
+ *
+ * @param <T> destination object type
+ */
+final class MappingIterator<T> implements Iterator<T> {
+
+  private final MappingProcessorFactory factory;
+  private final Iterator<?> sources;
+  private final Class<T> destClass;
+  private final String mapId;
+  private final Map<Class<?>, MappingProcessor.BatchMappingPlan> plans =
+      new HashMap<Class<?>, MappingProcessor.BatchMappingPlan>();
+
+  private boolean started;
+  private boolean finished;
+
+  MappingIterator(MappingProcessorFactory factory, Iterator<?> sources, Class<T> destClass, String mapId) {
+    this.factory = factory;
+    this.sources = sources;
+    this.destClass = destClass;
+    this.mapId = mapId;
+  }
+
+  public boolean hasNext() {
+    boolean hasNext = sources.hasNext();
+    if (!hasNext && !finished) {
+      fireStarted();
+      finished = true;
+      factory.eventManager.fireEvent(DozerEventType.MAPPING_FINISHED, null, null, sources, null, null);
+    }
+    return hasNext;
+  }
+
+  public T next() {
+    fireStarted();
+    Object srcObj = sources.next();
+    if (srcObj == null) {
+      return null;
+    }
+    MappingProcessor processor = factory.create();
+    try {
+      return processor.mapBatchElement(srcObj, destClass, mapId, plans);
+    } finally {
+      processor.releaseMappedObjects();
+    }
+  }
+
+  private void fireStarted() {
+    if (!started) {
+      started = true;
+      factory.eventManager.fireEvent(DozerEventType.MAPPING_STARTED, null, null, sources, null, null);
+    }
+  }
+
+}
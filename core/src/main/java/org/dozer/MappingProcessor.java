@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -30,13 +31,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.builder.BuilderUtil;
 import org.dozer.builder.DestBeanBuilderCreator;
 import org.dozer.cache.Cache;
 import org.dozer.cache.CacheKeyFactory;
 import org.dozer.cache.CacheManager;
-import org.dozer.cache.DozerCacheType;
 import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.ClassMapBuilder;
 import org.dozer.classmap.ClassMappings;
@@ -45,27 +46,33 @@ import org.dozer.classmap.CopyByReferenceContainer;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
 import org.dozer.classmap.generator.BeanMappingGenerator;
+import org.dozer.compiler.ClassMapCompiler;
+import org.dozer.compiler.CompiledClassMap;
+import org.dozer.compiler.CompiledFieldMapping;
 import org.dozer.config.BeanContainer;
 import org.dozer.converters.DateFormatContainer;
 import org.dozer.converters.PrimitiveOrWrapperConverter;
-import org.dozer.event.DozerEvent;
 import org.dozer.event.DozerEventManager;
 import org.dozer.event.DozerEventType;
 import org.dozer.event.EventManager;
 import org.dozer.factory.BeanCreationDirective;
 import org.dozer.factory.DestBeanCreator;
+import org.dozer.fieldmap.CollectionMappingPlan;
 import org.dozer.fieldmap.CustomGetSetMethodFieldMap;
 import org.dozer.fieldmap.ExcludeFieldMap;
 import org.dozer.fieldmap.FieldMap;
-import org.dozer.fieldmap.HintContainer;
+import org.dozer.fieldmap.FieldMappingStrategy;
 import org.dozer.fieldmap.MapFieldMap;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
 import org.dozer.util.CollectionUtils;
 import org.dozer.util.DozerConstants;
+import org.dozer.util.EqualityIndex;
+import org.dozer.util.ImmutableTypes;
 import org.dozer.util.IteratorUtils;
 import org.dozer.util.LogMsgFactory;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.MappingValidator;
+import org.dozer.util.PrimitiveArrayUtils;
 import org.dozer.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,7 +84,8 @@ import static org.dozer.util.DozerConstants.ITERATE;
  * Internal Mapping Engine. Not intended for direct use by Application code.
  * This class does most of the heavy lifting and is very recursive in nature.
  * <p>
- * This class is not threadsafe and is instantiated for each new mapping request.
+ * This class is not threadsafe and is instantiated for each new mapping request. Its stateless collaborators are
+ * shared through {@link MappingProcessorFactory}, so an instance only carries the state of a single request.
  *
  * @author garsombke.franz
  * @author sullins.ben
@@ -88,7 +96,9 @@ import static org.dozer.util.DozerConstants.ITERATE;
  */
 public class MappingProcessor implements Mapper {
 
-  private final Logger log = LoggerFactory.getLogger(MappingProcessor.class);
+  private static final Logger log = LoggerFactory.getLogger(MappingProcessor.class);
+
+  private static final LogMsgFactory LOG_MSG_FACTORY = new LogMsgFactory();
 
   private final ClassMappings classMappings;
   private final Configuration globalConfiguration;
@@ -97,36 +107,48 @@ public class MappingProcessor implements Mapper {
   private final EventManager eventMgr;
   private final CustomFieldMapper customFieldMapper;
 
-  private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
+  // acquired on first use, see releaseMappedObjects()
+  private MappedFieldsTracker mappedFields;
+  private final boolean treeMode;
 
   private final Cache converterByDestTypeCache;
   private final Cache superTypeCache;
+  private final FieldMappingStrategy.Resolver mappingStrategyResolver = this::resolveMappingStrategy;
   private final PrimitiveOrWrapperConverter primitiveConverter;
-  private final LogMsgFactory logMsgFactory = new LogMsgFactory();
   private final BeanContainer beanContainer;
   private final ClassMapBuilder classMapBuilder;
   private final DestBeanCreator destBeanCreator;
   private final DestBeanBuilderCreator destBeanBuilderCreator;
+  private final ClassMapCompiler classMapCompiler;
 
   protected MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
                              List<CustomConverter> customConverterObjects,
                              DozerEventManager eventManager, CustomFieldMapper customFieldMapper,
                              Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
                              DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
-                             BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory) {
-    this.classMappings = classMappings;
-    this.globalConfiguration = globalConfiguration;
-    this.customConverterObjects = customConverterObjects;
-    this.eventMgr = eventManager;
-    this.customFieldMapper = customFieldMapper;
-    this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
-    this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
-    this.customConverterObjectsWithId = customConverterObjectsWithId;
-    this.beanContainer = beanContainer;
-    this.destBeanBuilderCreator = destBeanBuilderCreator;
-    this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
-    this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
-    this.destBeanCreator = destBeanCreator;
+                             BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory,
+                             ClassMapCompiler classMapCompiler) {
+    this(new MappingProcessorFactory(classMappings, globalConfiguration, cacheMgr, customConverterObjects, eventManager,
+        customFieldMapper, customConverterObjectsWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
+        beanMappingGenerator, propertyDescriptorFactory, classMapCompiler, false));
+  }
+
+  MappingProcessor(MappingProcessorFactory factory) {
+    this.classMappings = factory.classMappings;
+    this.globalConfiguration = factory.globalConfiguration;
+    this.customConverterObjects = factory.customConverterObjects;
+    this.eventMgr = factory.eventManager;
+    this.customFieldMapper = factory.customFieldMapper;
+    this.converterByDestTypeCache = factory.converterByDestTypeCache;
+    this.superTypeCache = factory.superTypeCache;
+    this.customConverterObjectsWithId = factory.customConverterObjectsWithId;
+    this.beanContainer = factory.beanContainer;
+    this.destBeanBuilderCreator = factory.destBeanBuilderCreator;
+    this.classMapBuilder = factory.classMapBuilder;
+    this.primitiveConverter = factory.primitiveConverter;
+    this.destBeanCreator = factory.destBeanCreator;
+    this.classMapCompiler = factory.classMapCompiler;
+    this.treeMode = factory.treeMode;
   }
 
   /* Mapper Interface Implementation */
@@ -148,6 +170,20 @@ public class MappingProcessor implements Mapper {
     MappingValidator.validateMappingRequest(srcObj, destObj);
     mapGeneral(srcObj, null, destObj, mapId);
   }
+
+  public <T> List<T> mapAll(final Iterable<?> sources, final Class<T> destClass, final String mapId) {
+    MappingValidator.validateMappingRequest(sources, destClass);
+    List<T> result = sources instanceof Collection ? new ArrayList<T>(((Collection<?>) sources).size()) : new ArrayList<T>();
+
+    eventMgr.fireEvent(DozerEventType.MAPPING_STARTED, null, null, sources, result, null);
+    Map<Class<?>, BatchMappingPlan> plans = new HashMap<Class<?>, BatchMappingPlan>();
+    for (Object srcObj : sources) {
+      result.add(srcObj != null ? mapBatchElementSeparately(srcObj, destClass, mapId, plans) : null);
+    }
+    eventMgr.fireEvent(DozerEventType.MAPPING_FINISHED, null, null, sources, result, null);
+
+    return result;
+  }
   /* End of Mapper Interface Implementation */
 
   /**
@@ -177,7 +213,7 @@ public class MappingProcessor implements Mapper {
     try {
       classMap = getClassMap(srcObj.getClass(), destType, mapId);
 
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, result, null));
+      eventMgr.fireEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, result, null);
 
       // TODO Check if any proxy issues are here
       // Check to see if custom converter has been specified for this mapping
@@ -189,7 +225,7 @@ public class MappingProcessor implements Mapper {
       if (destObj == null) {
         // If this is a nested MapperAware conversion this mapping can be already processed
         // but we can do this optimization only in case of no destObject, instead we must copy to the dest object
-        Object alreadyMappedValue = mappedFields.getMappedValue(srcObj, destType, mapId);
+        Object alreadyMappedValue = getMappedValue(srcObj, destType, mapId);
         if (alreadyMappedValue != null) {
           return (T) alreadyMappedValue;
         }
@@ -208,11 +244,145 @@ public class MappingProcessor implements Mapper {
     } catch (Throwable e) {
       MappingUtils.throwMappingException(e);
     }
-    eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+    eventMgr.fireEvent(DozerEventType.MAPPING_FINISHED, classMap, null, srcObj, result, null);
+
+    return result;
+  }
+
+  /**
+   * Maps the elements of sources from fromIndex, inclusive, to toIndex, exclusive, into the same positions of results.
+   * A failing element does not stop the mapping of the range, its failure is stored at its position in failures. Every
+   * element has its own tracking of mapped objects, so the result does not depend on how a batch is split into ranges.
+   *
+   * @param sources   source objects
+   * @param fromIndex index of the first element to map
+   * @param toIndex   index after the last element to map
+   * @param destClass destination class
+   * @param mapId     mapping identifier
+   * @param results   destination objects by index of their source
+   * @param failures  failures by index of their source
+   * @param <T>       destination object type
+   */
+  <T> void mapRange(List<?> sources, int fromIndex, int toIndex, Class<T> destClass, String mapId, Object[] results,
+                    RuntimeException[] failures) {
+    Map<Class<?>, BatchMappingPlan> plans = new HashMap<Class<?>, BatchMappingPlan>();
+    for (int i = fromIndex; i < toIndex; i++) {
+      Object srcObj = sources.get(i);
+      if (srcObj == null) {
+        continue;
+      }
+      try {
+        results[i] = mapBatchElementSeparately(srcObj, destClass, mapId, plans);
+      } catch (RuntimeException e) {
+        failures[i] = e;
+      }
+    }
+  }
+
+  /**
+   * Maps a single element of a batch. Does the same as {@link #mapGeneral(Object, Class, Object, String)} for a
+   * destination class, but the class map and custom converter are resolved only once for each source class of the
+   * batch and mapping events are fired by the caller for the whole batch.
+   *
+   * @param srcObj    source object
+   * @param destClass destination class
+   * @param mapId     mapping identifier
+   * @param plans     plans resolved so far in this batch by source class
+   * @param <T>       destination object type
+   * @return new destination object
+   */
+  <T> T mapBatchElement(Object srcObj, final Class<T> destClass, final String mapId, Map<Class<?>, BatchMappingPlan> plans) {
+    srcObj = MappingUtils.deProxy(srcObj, beanContainer);
+
+    T result = null;
+    try {
+      Class<?> srcClass = srcObj.getClass();
+      BatchMappingPlan plan = plans.get(srcClass);
+      if (plan == null) {
+        plan = createBatchMappingPlan(srcClass, destClass, mapId);
+        plans.put(srcClass, plan);
+      }
+
+      // same order as mapGeneral: the converter is resolved with the class map, then an object already mapped by this
+      // processor is reused, and only otherwise the converter is applied
+      Class<?> converterClass = plan.converterClass;
+
+      Object alreadyMappedValue = getMappedValue(srcObj, destClass, mapId);
+      if (alreadyMappedValue != null) {
+        return (T) alreadyMappedValue;
+      }
+
+      if (converterClass != null) {
+        return (T) mapUsingCustomConverter(converterClass, srcClass, srcObj, destClass, null, null, true);
+      }
 
+      // strategies may modify the directive, so every element gets its own
+      BeanCreationDirective creationDirective =
+              new BeanCreationDirective(srcObj, plan.classMap.getSrcClassToMap(), plan.classMap.getDestClassToMap(), destClass,
+              plan.classMap.getDestClassBeanFactory(), plan.classMap.getDestClassBeanFactoryId(),
+              plan.classMap.getDestClassCreateMethod(), plan.classMap.getDestClass().isSkipConstructor());
+      result = createByCreationDirectiveAndMap(creationDirective, plan.classMap, srcObj, null, false, null);
+    } catch (Throwable e) {
+      MappingUtils.throwMappingException(e);
+    }
     return result;
   }
 
+  /**
+   * Maps a single element of a batch with its own tracking of mapped objects, so that it gives the same result as a
+   * separate {@link #map(Object, Class, String)} call. Objects mapped so far by this processor are tracked again
+   * afterwards.
+   */
+  private <T> T mapBatchElementSeparately(Object srcObj, Class<T> destClass, String mapId,
+                                          Map<Class<?>, BatchMappingPlan> plans) {
+    MappedFieldsTracker outerMappedFields = mappedFields;
+    mappedFields = null;
+    try {
+      return mapBatchElement(srcObj, destClass, mapId, plans);
+    } finally {
+      releaseMappedObjects();
+      mappedFields = outerMappedFields;
+    }
+  }
+
+  /**
+   * Forgets the objects mapped so far and lets the next mapping processor of this thread reuse their tracking table.
+   * Called by the owner of a processor once it is done mapping with it.
+   */
+  void releaseMappedObjects() {
+    if (mappedFields != null) {
+      MappedFieldsTracker.release(mappedFields);
+      mappedFields = null;
+    }
+  }
+
+  /**
+   * @return the destination srcObj was already mapped to by this processor, or null
+   */
+  private Object getMappedValue(Object srcObj, Class<?> destType, String mapId) {
+    if (treeMode || mappedFields == null) {
+      return null;
+    }
+    return mappedFields.getMappedValue(srcObj, destType, mapId);
+  }
+
+  private void putMappedValue(Object srcObj, Object destObj, String mapId) {
+    // in tree mode no object is referenced twice, so there is nothing to look up later
+    if (!treeMode) {
+      if (mappedFields == null) {
+        mappedFields = MappedFieldsTracker.acquire();
+      }
+      mappedFields.put(srcObj, destObj, mapId);
+    }
+  }
+
+  private BatchMappingPlan createBatchMappingPlan(Class<?> srcClass, Class<?> destClass, String mapId) {
+    ClassMap classMap = getClassMap(srcClass, destClass, mapId);
+    Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcClass,
+        destClass);
+    return new BatchMappingPlan(classMap, converterClass);
+  }
+
   /**
    * Create builder or target object if needed and call
    * {@link MappingProcessor#mapToDestObject(org.dozer.classmap.ClassMap, Object, Object, boolean, String)} function with
@@ -266,7 +436,7 @@ public class MappingProcessor implements Mapper {
     // infinite loop. Keep a record of mapped fields
     // by storing the id of the sourceObj and the destObj to be mapped. This can
     // be referred to later to avoid recursive mapping loops
-    mappedFields.put(srcObj, destObj, mapId);
+    putMappedValue(srcObj, destObj, mapId);
 
     // If class map hasn't already been determined, find the appropriate one for
     // the src/dest object combination
@@ -300,14 +470,43 @@ public class MappingProcessor implements Mapper {
       }
     }
 
+    // Compiled field mappings bypass per field debug logging, so only use them when it is off
+    CompiledClassMap compiledClassMap = null;
+    if (classMapCompiler != null && !log.isDebugEnabled()) {
+      compiledClassMap = classMapCompiler.getCompiledClassMap(classMap, srcClass, destClass);
+    }
+
     // Perform mappings for each field. Iterate through Fields Maps for this class mapping
-    for (FieldMap fieldMapping : classMap.getFieldMaps()) {
+    List<FieldMap> fieldMaps = classMap.getFieldMaps();
+    for (int i = 0; i < fieldMaps.size(); i++) {
+      FieldMap fieldMapping = fieldMaps.get(i);
       //Bypass field if it has already been mapped as part of super class mappings.
       String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
       if (mappedParentFields != null && mappedParentFields.contains(key)) {
         continue;
       }
-      mapField(fieldMapping, srcObj, destObj);
+      CompiledFieldMapping compiledFieldMapping = compiledClassMap != null ? compiledClassMap.getFieldMapping(i) : null;
+      if (compiledFieldMapping != null) {
+        mapCompiledField(compiledFieldMapping, fieldMapping, srcObj, destObj);
+      } else {
+        mapField(fieldMapping, srcObj, destObj);
+      }
+    }
+  }
+
+  /**
+   * Perform mapping of a field with accessors generated by {@link ClassMapCompiler}.
+   *
+   * @param compiledFieldMapping Compiled field mapping.
+   * @param fieldMapping Field mapping the compiled one was created from.
+   * @param srcObj Source object.
+   * @param destObj Destination object.
+   */
+  private void mapCompiledField(CompiledFieldMapping compiledFieldMapping, FieldMap fieldMapping, Object srcObj, Object destObj) {
+    try {
+      compiledFieldMapping.map(srcObj, destObj);
+    } catch (Throwable e) {
+      handleFieldMappingError(e, fieldMapping, srcObj, null, destObj);
     }
   }
 
@@ -352,19 +551,23 @@ public class MappingProcessor implements Mapper {
       }
 
     } catch (Throwable e) {
-      log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+      handleFieldMappingError(e, fieldMapping, srcObj, srcFieldValue, destObj);
+    }
+  }
 
-      // check error handling policy.
-      if (fieldMapping.isStopOnErrors()) {
-        MappingUtils.throwMappingException(e);
-      } else {
-        // check if any Exceptions should be allowed to be thrown
-        if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
-          Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
-          Class<? extends Throwable> exceptionClass = thrownType.getClass();
-          if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
-            throw (RuntimeException) thrownType;
-          }
+  private void handleFieldMappingError(Throwable e, FieldMap fieldMapping, Object srcObj, Object srcFieldValue, Object destObj) {
+    log.error(LOG_MSG_FACTORY.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+
+    // check error handling policy.
+    if (fieldMapping.isStopOnErrors()) {
+      MappingUtils.throwMappingException(e);
+    } else {
+      // check if any Exceptions should be allowed to be thrown
+      if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
+        Throwable thrownType = ((InvocationTargetException) e.getCause()).getTargetException();
+        Class<? extends Throwable> exceptionClass = thrownType.getClass();
+        if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
+          throw (RuntimeException) thrownType;
         }
       }
     }
@@ -407,60 +610,115 @@ public class MappingProcessor implements Mapper {
     writeDestinationValue(destObj, destFieldValue, fieldMapping, srcObj);
 
     if (log.isDebugEnabled()) {
-      log.debug(logMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
+      log.debug(LOG_MSG_FACTORY.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
           fieldMapping.getDestFieldName(), srcFieldValue, destFieldValue, fieldMapping.getClassMap().getMapId()));
     }
   }
 
   private Object mapOrRecurseObject(Object srcObj, Object srcFieldValue, Class<?> destFieldType, FieldMap fieldMap, Object destObj) {
-    Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMap.getSrcFieldType(srcObj.getClass());
-    Class<?> converterClass = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap()
-        .getCustomConverters(), srcFieldClass, destFieldType);
-
-    // 1-2007 mht: Invoke custom converter even if the src value is null.
-    // #1563795
-    if (converterClass != null) {
-      return mapUsingCustomConverter(converterClass, srcFieldClass, srcFieldValue, destFieldType, destObj, fieldMap, false);
-    }
-
     if (srcFieldValue == null) {
+      Class<?> srcFieldClass = fieldMap.getSrcFieldType(srcObj.getClass());
+      Class<?> converterClass = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap()
+          .getCustomConverters(), srcFieldClass, destFieldType);
+
+      // 1-2007 mht: Invoke custom converter even if the src value is null.
+      // #1563795
+      if (converterClass != null) {
+        return mapUsingCustomConverter(converterClass, srcFieldClass, null, destFieldType, destObj, fieldMap, false);
+      }
       return null;
     }
 
+    Class<?> srcFieldClass = srcFieldValue.getClass();
+    FieldMappingStrategy strategy = destFieldType != null
+        ? fieldMap.getMappingStrategy(srcFieldClass, destFieldType, mappingStrategyResolver)
+        : resolveMappingStrategy(fieldMap, srcFieldClass, null);
 
-    String srcFieldName = fieldMap.getSrcFieldName();
-    String destFieldName = fieldMap.getDestFieldName();
+    if (strategy.getKind() == FieldMappingStrategy.Kind.CUSTOM_CONVERTER) {
+      return mapUsingCustomConverter(strategy.getConverterClass(), srcFieldClass, srcFieldValue, destFieldType, destObj, fieldMap,
+          false);
+    }
 
     // 1596766 - Recursive object mapping issue. Prevent recursive mapping
     // infinite loop
     // In case of "this->this" mapping this rule should be omitted as processing is done on objects, which has been
     // just marked as mapped.
-    if (!(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
-      Object alreadyMappedValue = mappedFields.getMappedValue(srcFieldValue, destFieldType, fieldMap.getMapId());
+    if (strategy.isCheckMappedFields()) {
+      Object alreadyMappedValue = getMappedValue(srcFieldValue, destFieldType, fieldMap.getMapId());
       if (alreadyMappedValue != null) {
         return alreadyMappedValue;
       }
     }
 
+    switch (strategy.getKind()) {
+      case COPY_BY_REFERENCE:
+        // just get the src and return it, no transformation.
+        return srcFieldValue;
+      case MAP:
+        return mapMap(srcObj, (Map<?, ?>) srcFieldValue, fieldMap, destObj);
+      case PRIMITIVE:
+      case MAP_BACKED_PRIMITIVE:
+        // Primitive or Wrapper conversion
+        //#1841448 - if trim-strings=true, then use a trimmed src string value when converting to dest value
+        Object convertSrcFieldValue = srcFieldValue;
+        if (fieldMap.isTrimStrings() && srcFieldClass.equals(String.class)) {
+          convertSrcFieldValue = ((String) srcFieldValue).trim();
+        }
+
+        DateFormatContainer dfContainer = DateFormatContainer.forPattern(fieldMap.getDateFormat());
+
+        if (strategy.getKind() == FieldMappingStrategy.Kind.MAP_BACKED_PRIMITIVE) {
+          return primitiveConverter.convert(convertSrcFieldValue, convertSrcFieldValue.getClass(), dfContainer);
+        } else {
+          return primitiveConverter.convert(convertSrcFieldValue, strategy.getDestFieldType(), dfContainer,
+              fieldMap.getDestFieldName(), destObj);
+        }
+      case COLLECTION:
+        return mapCollection(srcObj, srcFieldValue, fieldMap, destObj);
+      case ENUM:
+        return mapEnum((Enum) srcFieldValue, (Class<Enum>) strategy.getDestFieldType());
+      default:
+        // Default: Map from one custom data object to another custom data object
+        return mapCustomObject(fieldMap, destObj, strategy.getDestFieldType(), fieldMap.getDestFieldName(), srcFieldValue);
+    }
+  }
+
+  /**
+   * Decides how a non null value of srcFieldClass is mapped to destFieldType. The decision only depends on the classes
+   * and the field map, so it is cached by the field map.
+   */
+  private FieldMappingStrategy resolveMappingStrategy(FieldMap fieldMap, Class<?> srcFieldClass, Class<?> destFieldType) {
+    Class<?> converterClass = MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap()
+        .getCustomConverters(), srcFieldClass, destFieldType);
+    boolean checkMappedFields = !(DozerConstants.SELF_KEYWORD.equals(fieldMap.getSrcFieldName())
+        && DozerConstants.SELF_KEYWORD.equals(fieldMap.getDestFieldName()));
+
+    if (converterClass != null) {
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.CUSTOM_CONVERTER, destFieldType, converterClass, false);
+    }
+
     if (fieldMap.isCopyByReference()) {
-      // just get the src and return it, no transformation.
-      return srcFieldValue;
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.COPY_BY_REFERENCE, destFieldType, null, checkMappedFields);
     }
 
     boolean isSrcFieldClassSupportedMap = MappingUtils.isSupportedMap(srcFieldClass);
     boolean isDestFieldTypeSupportedMap = MappingUtils.isSupportedMap(destFieldType);
     if (isSrcFieldClassSupportedMap && isDestFieldTypeSupportedMap) {
-      return mapMap(srcObj, (Map<?, ?>) srcFieldValue, fieldMap, destObj);
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.MAP, destFieldType, null, checkMappedFields);
     }
     if (fieldMap instanceof MapFieldMap && destFieldType.equals(Object.class)) {
       // TODO: find better place for this logic. try to encapsulate in FieldMap?
       destFieldType = fieldMap.getDestHintContainer() != null ? fieldMap.getDestHintContainer().getHint() : srcFieldClass;
     }
 
+    if (isSharedImmutable(fieldMap, srcFieldClass, destFieldType)) {
+      // the value can not change, so it does not need to be recreated or tracked as mapped
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.COPY_BY_REFERENCE, destFieldType, null, false);
+    }
+
     if (primitiveConverter.accepts(srcFieldClass) || primitiveConverter.accepts(destFieldType)) {
-      // Primitive or Wrapper conversion
       if (fieldMap.getDestHintContainer() != null) {
-        Class<?> destHintType = fieldMap.getDestHintType(srcFieldValue.getClass());
+        Class<?> destHintType = fieldMap.getDestHintType(srcFieldClass);
         // if the destType is null this means that there was more than one hint.
         // we must have already set the destType then.
         if (destHintType != null) {
@@ -468,14 +726,6 @@ public class MappingProcessor implements Mapper {
         }
       }
 
-      //#1841448 - if trim-strings=true, then use a trimmed src string value when converting to dest value
-      Object convertSrcFieldValue = srcFieldValue;
-      if (fieldMap.isTrimStrings() && srcFieldValue.getClass().equals(String.class)) {
-        convertSrcFieldValue = ((String) srcFieldValue).trim();
-      }
-
-      DateFormatContainer dfContainer = new DateFormatContainer(fieldMap.getDateFormat());
-
       if (fieldMap instanceof MapFieldMap && !primitiveConverter.accepts(destFieldType)) {
         // This handles a very special/rare use case(see indexMapping.xml + unit
         // test
@@ -488,25 +738,43 @@ public class MappingProcessor implements Mapper {
         // destination map backed custom object would contain a value that is
         // the custom object dest type instead of the
         // desired src value.
-        return primitiveConverter.convert(convertSrcFieldValue, convertSrcFieldValue.getClass(), dfContainer);
-      } else {
-        return primitiveConverter.convert(convertSrcFieldValue, destFieldType, dfContainer, destFieldName, destObj);
+        return new FieldMappingStrategy(FieldMappingStrategy.Kind.MAP_BACKED_PRIMITIVE, destFieldType, null, checkMappedFields);
       }
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.PRIMITIVE, destFieldType, null, checkMappedFields);
     }
     if (MappingUtils.isSupportedCollection(srcFieldClass) && (MappingUtils.isSupportedCollection(destFieldType))) {
-      return mapCollection(srcObj, srcFieldValue, fieldMap, destObj);
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.COLLECTION, destFieldType, null, checkMappedFields);
     }
 
     if (MappingUtils.isEnumType(srcFieldClass, destFieldType)) {
-      return mapEnum((Enum) srcFieldValue, (Class<Enum>) destFieldType);
+      return new FieldMappingStrategy(FieldMappingStrategy.Kind.ENUM, destFieldType, null, checkMappedFields);
     }
 
     if (fieldMap.getDestDeepIndexHintContainer() != null) {
       destFieldType = fieldMap.getDestDeepIndexHintContainer().getHint();
     }
+    return new FieldMappingStrategy(FieldMappingStrategy.Kind.CUSTOM_OBJECT, destFieldType, null, checkMappedFields);
+  }
 
-    // Default: Map from one custom data object to another custom data object
-    return mapCustomObject(fieldMap, destObj, destFieldType, destFieldName, srcFieldValue);
+  /**
+   * Immutable values are copied by reference without configuration, as long as the destination type accepts them
+   * and nothing asks for another type or a transformation of the value. A mapping configured for the types still
+   * applies.
+   */
+  private boolean isSharedImmutable(FieldMap fieldMap, Class<?> srcFieldClass, Class<?> destFieldType) {
+    if (!ImmutableTypes.isImmutable(srcFieldClass) || fieldMap.getDestDeepIndexHintContainer() != null
+        || (fieldMap.isTrimStrings() && String.class.equals(srcFieldClass))) {
+      return false;
+    }
+    Class<?> destType = destFieldType;
+    if (fieldMap.getDestHintContainer() != null) {
+      Class<?> destHintType = fieldMap.getDestHintType(srcFieldClass);
+      if (destHintType != null) {
+        destType = destHintType;
+      }
+    }
+    return destType != null && ClassUtils.primitiveToWrapper(destType).isAssignableFrom(srcFieldClass)
+        && !classMappings.isConfigured(srcFieldClass, destType);
   }
 
   private <T extends Enum<T>> T mapEnum(Enum<T> srcFieldValue, Class<T> destFieldType) {
@@ -564,59 +832,43 @@ public class MappingProcessor implements Mapper {
 
   private Object mapCollection(Object srcObj, Object srcCollectionValue, FieldMap fieldMap, Object destObj) {
     // since we are mapping some sort of collection now is a good time to decide
-    // if they provided hints
-    // if no hint is provided then we will use generics to determine the mapping type
-    if (fieldMap.getDestHintContainer() == null) {
-      Class<?> genericType = fieldMap.getGenericType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
-      if (genericType != null) {
-        HintContainer destHintContainer = new HintContainer(beanContainer);
-        destHintContainer.setHintName(genericType.getName());
-        FieldMap cloneFieldMap = (FieldMap) fieldMap.clone();
-        cloneFieldMap.setDestHintContainer(destHintContainer); // should affect only this time as fieldMap is cloned
-        fieldMap = cloneFieldMap;
-      }
-    }
+    // if they provided hints, the plan falls back to generics if they did not
+    CollectionMappingPlan plan = fieldMap.getCollectionMappingPlan(BuilderUtil.unwrapDestClassFromBuilder(destObj));
+    fieldMap = plan.getElementFieldMap();
 
     // if it is an iterator object turn it into a List
     if (srcCollectionValue instanceof Iterator) {
       srcCollectionValue = IteratorUtils.toList((Iterator<?>) srcCollectionValue);
     }
 
-    Class<?> destCollectionType = fieldMap.getDestFieldType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
     Class<?> srcFieldType = srcCollectionValue.getClass();
+    boolean destArray = plan.isDestArray();
+    boolean destList = plan.isDestList(srcFieldType);
+    boolean destSet = plan.isDestSet(srcFieldType);
     Object result = null;
 
-    // if they use a standard Collection we have to assume it is a List...better
-    // way to handle this?
-    if (destCollectionType.getName().equals(Collection.class.getName())) {
-      // dont!!
-      destCollectionType = List.class;
-        if (Set.class.isAssignableFrom(srcFieldType)) {
-            destCollectionType = Set.class;
-        }
-    }
     // Array to Array
-    if (CollectionUtils.isArray(srcFieldType) && (CollectionUtils.isArray(destCollectionType))) {
+    if (CollectionUtils.isArray(srcFieldType) && destArray) {
       result = mapArrayToArray(srcObj, srcCollectionValue, fieldMap, destObj);
-    } else if (CollectionUtils.isArray(srcFieldType) && (CollectionUtils.isList(destCollectionType))) {
+    } else if (CollectionUtils.isArray(srcFieldType) && destList) {
       // Array to List
       result = mapArrayToList(srcObj, srcCollectionValue, fieldMap, destObj);
-    } else if (CollectionUtils.isList(srcFieldType) && (CollectionUtils.isArray(destCollectionType))) {
+    } else if (CollectionUtils.isList(srcFieldType) && destArray) {
       // List to Array
       result = mapListToArray(srcObj, (List<?>) srcCollectionValue, fieldMap, destObj);
-    } else if (CollectionUtils.isSet(srcFieldType) && CollectionUtils.isArray(destCollectionType)) {
+    } else if (CollectionUtils.isSet(srcFieldType) && destArray) {
       // Set to Array
       result = mapSetToArray(srcObj, (Set<?>) srcCollectionValue, fieldMap, destObj);
-    } else if (CollectionUtils.isArray(srcFieldType) && CollectionUtils.isSet(destCollectionType)) {
+    } else if (CollectionUtils.isArray(srcFieldType) && destSet) {
       // Array to Set
       result = addToSet(srcObj, fieldMap, Arrays.asList((Object[]) srcCollectionValue), destObj);
-    } else if (CollectionUtils.isCollection(srcFieldType) && CollectionUtils.isSet(destCollectionType)) {
+    } else if (CollectionUtils.isCollection(srcFieldType) && destSet) {
       // Collection to Set
       result = addToSet(srcObj, fieldMap, (Collection<?>) srcCollectionValue, destObj);
-    } else if (CollectionUtils.isCollection(srcFieldType) && MappingUtils.isSupportedMap(destCollectionType)) {
+    } else if (CollectionUtils.isCollection(srcFieldType) && plan.isDestMap()) {
       // List to Map value
       result = mapListToList(srcObj, (List<?>) srcCollectionValue, fieldMap, destObj);
-    } else if (CollectionUtils.isCollection(srcFieldType) && CollectionUtils.isList(destCollectionType)) {
+    } else if (CollectionUtils.isCollection(srcFieldType) && destList) {
         // List to List
         // Set to List
         // Collection to List. Fix for 3378952, http://sourceforge.net/tracker/index.php?func=detail&aid=3378952&group_id=133517&atid=727368
@@ -668,6 +920,10 @@ public class MappingProcessor implements Mapper {
 
     if (destEntryType.isAssignableFrom(srcEntryType) && isFinal && (isPrimitiveArray || isCopyByReference)) {
       return addArrayContentCopy(fieldMap, size, srcCollectionValue, destObj, destEntryType);
+    } else if (isPrimitiveArray && PrimitiveArrayUtils.isWidening(srcEntryType, destEntryType)
+        && isDirectPrimitiveConversion(fieldMap, srcEntryType, destEntryType)) {
+      // widen the elements without boxing them
+      return addArrayContentCopy(fieldMap, size, srcCollectionValue, destObj, destEntryType);
     } else if (isPrimitiveArray) {
       return addToPrimitiveArray(srcObj, fieldMap, size, srcCollectionValue, destObj, destEntryType);
     } else {
@@ -709,7 +965,7 @@ public class MappingProcessor implements Mapper {
       }
     }
     if (log.isDebugEnabled()) {
-      log.debug(logMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
+      log.debug(LOG_MSG_FACTORY.createFieldMappingSuccessMsg(srcObj.getClass(), destObj.getClass(), fieldMapping.getSrcFieldName(),
           fieldMapping.getDestFieldName(), srcFieldValue, null, fieldMapping.getClassMap().getMapId()));
     }
   }
@@ -726,7 +982,11 @@ public class MappingProcessor implements Mapper {
           arraySize = Array.getLength(field);
           System.arraycopy(field, 0, result, 0, arraySize);
       }
-      System.arraycopy(srcCollectionValue, 0, result, arraySize, size);
+      if (destEntryType.isPrimitive()) {
+          PrimitiveArrayUtils.copy(srcCollectionValue, result, arraySize);
+      } else {
+          System.arraycopy(srcCollectionValue, 0, result, arraySize, size);
+      }
       return result;
   }
 
@@ -744,8 +1004,8 @@ public class MappingProcessor implements Mapper {
       System.arraycopy(field, 0, result, 0, arraySize);
     }
     // primitive arrays are ALWAYS cumulative
+    CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
     for (int i = 0; i < size; i++) {
-      CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
       Object toValue;
       if (srcCollectionValue != null && copyByReferences.contains(srcCollectionValue.getClass())) {
         toValue = srcCollectionValue;
@@ -760,6 +1020,14 @@ public class MappingProcessor implements Mapper {
 
   private Object mapListToArray(Object srcObj, Collection<?> srcCollectionValue, FieldMap fieldMap, Object destObj) {
     Class destEntryType = fieldMap.getDestFieldType(destObj.getClass()).getComponentType();
+    if (destEntryType.isPrimitive() && !RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+        && isDirectPrimitiveConversion(fieldMap, destEntryType, destEntryType) && fieldMap.getDestValue(destObj) == null) {
+      // unbox the elements without converting them one by one, unless some are not of the wrapper type
+      Object result = PrimitiveArrayUtils.toPrimitiveArray(srcCollectionValue, destEntryType);
+      if (result != null) {
+        return result;
+      }
+    }
     List list;
     if (!destEntryType.getName().equals(BASE_CLASS)) {
       list = addOrUpdateToList(srcObj, fieldMap, srcCollectionValue, destObj, destEntryType);
@@ -785,15 +1053,18 @@ public class MappingProcessor implements Mapper {
     }
     Object destValue;
 
+    boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+    // built on the first update, to find the element of result equal to a mapped value
+    EqualityIndex resultIndex = null;
     Class<?> destEntryType = null;
     Class<?> prevDestEntryType = null;
+    CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
     for (Object srcValue : srcCollectionValue) {
       if (destEntryType == null
               || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
         destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
       }
 
-      CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
       if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
         destValue = srcValue;
       } else {
@@ -801,20 +1072,24 @@ public class MappingProcessor implements Mapper {
       }
       prevDestEntryType = destEntryType;
 
-      if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-          && result.contains(destValue)) {
-        List<Object> resultAsList = new ArrayList<Object>(result);
-        int index = resultAsList.indexOf(destValue);
+      if (nonCumulative && result.contains(destValue)) {
+        if (resultIndex == null) {
+          resultIndex = new EqualityIndex(result);
+        }
         // perform an update if complex type - can't map strings
-        Object obj = resultAsList.get(index);
+        Object obj = resultIndex.get(destValue);
         // make sure it is not a String
-        if (!obj.getClass().isAssignableFrom(String.class)) {
+        if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
           mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          resultIndex.add(obj);
           mappedElements.add(obj);
         }
       } else {
         if (destValue != null || fieldMap.isDestMapNull()) {
           result.add(destValue);
+          if (resultIndex != null) {
+            resultIndex.add(destValue);
+          }
         }
         mappedElements.add(destValue);
       }
@@ -848,15 +1123,18 @@ public class MappingProcessor implements Mapper {
     Object field = fieldMap.getDestValue(destObj);
     result = prepareDestinationList(srcCollectionValue, field);
 
+    boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+    // finds the element of result equal to a mapped value without scanning result
+    EqualityIndex resultIndex = nonCumulative ? new EqualityIndex(result) : null;
     Object destValue;
     Class<?> prevDestEntryType = null;
+    CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
     for (Object srcValue : srcCollectionValue) {
       if (destEntryType == null
               || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer().hasMoreThanOneHint())) {
         destEntryType = determineCollectionItemType(fieldMap, destObj, srcValue, prevDestEntryType);
       }
 
-      CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
       if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
         destValue = srcValue;
       } else {
@@ -864,20 +1142,22 @@ public class MappingProcessor implements Mapper {
       }
       prevDestEntryType = destEntryType;
 
-      if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-          && result.contains(destValue)) {
-        int index = result.indexOf(destValue);
+      if (nonCumulative && resultIndex.contains(destValue)) {
         // perform an update if complex type - can't map strings
-        Object obj = result.get(index);
+        Object obj = resultIndex.get(destValue);
         // make sure it is not a String
         if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
           mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
+          resultIndex.add(obj);
           mappedElements.add(obj);
         }
       } else {
         // respect null mappings
         if (destValue != null || fieldMap.isDestMapNull()) {
           result.add(destValue);
+          if (resultIndex != null) {
+            resultIndex.add(destValue);
+          }
         }
         mappedElements.add(destValue);
       }
@@ -906,15 +1186,14 @@ public class MappingProcessor implements Mapper {
   }
 
   static void removeOrphans(Collection<?> mappedElements, List<Object> result) {
-    for (Iterator<?> iterator = result.iterator(); iterator.hasNext();) {
-      Object object = iterator.next();
-      if (!mappedElements.contains(object)) {
-        iterator.remove();
-      }
-    }
+    EqualityIndex mappedIndex = new EqualityIndex(mappedElements);
+    result.removeIf(object -> !mappedIndex.contains(object));
+
+    EqualityIndex resultIndex = new EqualityIndex(result);
     for (Object object : mappedElements) {
-      if (!result.contains(object)) {
+      if (!resultIndex.contains(object)) {
         result.add(object);
+        resultIndex.add(object);
       }
     }
   }
@@ -951,12 +1230,42 @@ public class MappingProcessor implements Mapper {
     List<?> srcValueList;
     if (CollectionUtils.isPrimitiveArray(srcCollectionValue.getClass())) {
       srcValueList = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
+      Class<?> srcEntryType = srcCollectionValue.getClass().getComponentType();
+      if (destEntryType != null && ClassUtils.primitiveToWrapper(srcEntryType).equals(ClassUtils.primitiveToWrapper(destEntryType))
+          && !RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+          && isDirectPrimitiveConversion(fieldMap, srcEntryType, destEntryType)) {
+        // the boxed elements already are of the destination type
+        return addAllToList(fieldMap, srcValueList, destObj);
+      }
     } else {
       srcValueList = Arrays.asList((Object[]) srcCollectionValue);
     }
     return addOrUpdateToList(srcObj, fieldMap, srcValueList, destObj, destEntryType);
   }
 
+  private List<?> addAllToList(FieldMap fieldMap, List<?> srcValueList, Object destObj) {
+    List result = prepareDestinationList(srcValueList, fieldMap.getDestValue(destObj));
+    result.addAll(srcValueList);
+    if (fieldMap.isRemoveOrphans()) {
+      removeOrphans(srcValueList, result);
+    }
+    return result;
+  }
+
+  /**
+   * Determines whether elements of the primitive srcType can be stored as destType without going through
+   * mapOrRecurseObject, that is without a custom converter or a hint for another type.
+   */
+  private boolean isDirectPrimitiveConversion(FieldMap fieldMap, Class<?> srcType, Class<?> destType) {
+    Class<?> srcWrapperType = ClassUtils.primitiveToWrapper(srcType);
+    if (fieldMap.getDestHintContainer() != null
+        && !ClassUtils.primitiveToWrapper(destType).equals(ClassUtils.primitiveToWrapper(fieldMap.getDestHintType(srcWrapperType)))) {
+      return false;
+    }
+    return MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap().getCustomConverters(),
+        srcWrapperType, destType) == null;
+  }
+
   private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, Object srcObj) {
     boolean bypass = false;
     // don't map null to dest field if map-null="false"
@@ -976,13 +1285,13 @@ public class MappingProcessor implements Mapper {
     }
 
     if (!bypass) {
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-          destObj, destFieldValue));
+      eventMgr.fireEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+          destObj, destFieldValue);
 
       fieldMap.writeDestValue(destObj, destFieldValue);
 
-      eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-          destObj, destFieldValue));
+      eventMgr.fireEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+          destObj, destFieldValue);
     }
   }
 
@@ -1157,4 +1466,19 @@ public class MappingProcessor implements Mapper {
     return mapping;
   }
 
+  /**
+   * Mapping resolved for one source class of a batch.
+   */
+  static final class BatchMappingPlan {
+
+    private final ClassMap classMap;
+    private final Class<?> converterClass;
+
+    private BatchMappingPlan(ClassMap classMap, Class<?> converterClass) {
+      this.classMap = classMap;
+      this.converterClass = converterClass;
+    }
+
+  }
+
 }
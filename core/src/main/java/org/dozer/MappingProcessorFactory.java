@@ -0,0 +1,90 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.List;
+import java.util.Map;
+
+import org.dozer.builder.DestBeanBuilderCreator;
+import org.dozer.cache.Cache;
+import org.dozer.cache.CacheManager;
+import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMapBuilder;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.classmap.generator.BeanMappingGenerator;
+import org.dozer.compiler.ClassMapCompiler;
+import org.dozer.config.BeanContainer;
+import org.dozer.converters.PrimitiveOrWrapperConverter;
+import org.dozer.event.DozerEventManager;
+import org.dozer.factory.DestBeanCreator;
+import org.dozer.propertydescriptor.PropertyDescriptorFactory;
+
+/**
+ * Internal class holding the stateless collaborators of {@link MappingProcessor}. It is created once per mapper and
+ * shared by every mapping processor it creates, so that a mapping request only allocates its own per request state.
+ * Only intended for internal use.
+ */
+final class MappingProcessorFactory {
+
+  final ClassMappings classMappings;
+  final Configuration globalConfiguration;
+  final List<CustomConverter> customConverterObjects;
+  final Map<String, CustomConverter> customConverterObjectsWithId;
+  final DozerEventManager eventManager;
+  final CustomFieldMapper customFieldMapper;
+  final Cache converterByDestTypeCache;
+  final Cache superTypeCache;
+  final PrimitiveOrWrapperConverter primitiveConverter;
+  final BeanContainer beanContainer;
+  final ClassMapBuilder classMapBuilder;
+  final DestBeanCreator destBeanCreator;
+  final DestBeanBuilderCreator destBeanBuilderCreator;
+  final ClassMapCompiler classMapCompiler;
+  final boolean treeMode;
+
+  MappingProcessorFactory(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                          List<CustomConverter> customConverterObjects,
+                          DozerEventManager eventManager, CustomFieldMapper customFieldMapper,
+                          Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
+                          DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
+                          BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory,
+                          ClassMapCompiler classMapCompiler, boolean treeMode) {
+    this.classMappings = classMappings;
+    this.globalConfiguration = globalConfiguration;
+    this.customConverterObjects = customConverterObjects;
+    this.eventManager = eventManager;
+    this.customFieldMapper = customFieldMapper;
+    this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
+    this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+    this.customConverterObjectsWithId = customConverterObjectsWithId;
+    this.beanContainer = beanContainer;
+    this.destBeanBuilderCreator = destBeanBuilderCreator;
+    this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
+    this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
+    this.destBeanCreator = destBeanCreator;
+    this.classMapCompiler = classMapCompiler;
+    this.treeMode = treeMode;
+  }
+
+  /**
+   * @return new mapping processor with its own mapped objects tracking
+   */
+  MappingProcessor create() {
+    return new MappingProcessor(this);
+  }
+
+}
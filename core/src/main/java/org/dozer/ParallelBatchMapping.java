@@ -0,0 +1,118 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.dozer.event.DozerEventType;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.MappingValidator;
+
+/**
+ * Internal class mapping a batch in chunks on an {@link Executor}. Every chunk is mapped by its own
+ * {@link MappingProcessor}, which shares the mapping plans between the elements of the chunk but tracks already mapped
+ * objects per element. Only intended for internal use.
+ */
+final class ParallelBatchMapping {
+
+  // smallest chunk worth handing over to another thread
+  static final int MIN_CHUNK_SIZE = 64;
+  // more chunks than threads, so that threads finishing early pick up the remaining work
+  static final int CHUNKS_PER_THREAD = 4;
+
+  private ParallelBatchMapping() {}
+
+  static <T> List<T> mapAll(MappingProcessorFactory factory, List<?> sources, Class<T> destClass, String mapId,
+                            Executor executor) {
+    MappingValidator.validateMappingRequest(sources, destClass);
+    if (executor == null) {
+      MappingUtils.throwMappingException("Executor must not be null");
+    }
+
+    List<?> sourceList = sources instanceof RandomAccess ? sources : new ArrayList<Object>(sources);
+    int size = sourceList.size();
+    Object[] results = new Object[size];
+    RuntimeException[] failures = new RuntimeException[size];
+    List<T> result = new ArrayList<T>(size);
+
+    factory.eventManager.fireEvent(DozerEventType.MAPPING_STARTED, null, null, sources, result, null);
+
+    try {
+      int chunkCount = getChunkCount(size, executor);
+      if (chunkCount <= 1) {
+        mapRange(factory, sourceList, 0, size, destClass, mapId, results, failures);
+      } else {
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        List<CompletableFuture<Void>> chunks = new ArrayList<CompletableFuture<Void>>(chunkCount);
+        for (int fromIndex = 0; fromIndex < size; fromIndex += chunkSize) {
+          final int from = fromIndex;
+          final int to = Math.min(fromIndex + chunkSize, size);
+          chunks.add(CompletableFuture.runAsync(
+              () -> mapRange(factory, sourceList, from, to, destClass, mapId, results, failures), executor));
+        }
+        try {
+          CompletableFuture.allOf(chunks.toArray(new CompletableFuture[chunks.size()])).join();
+        } catch (CompletionException e) {
+          MappingUtils.throwMappingException(e.getCause());
+        }
+      }
+      result.addAll((List<T>) Arrays.asList(results));
+
+      SortedMap<Integer, RuntimeException> failuresByIndex = new TreeMap<Integer, RuntimeException>();
+      for (int i = 0; i < size; i++) {
+        if (failures[i] != null) {
+          failuresByIndex.put(i, failures[i]);
+        }
+      }
+      if (!failuresByIndex.isEmpty()) {
+        throw new BatchMappingException(size, failuresByIndex);
+      }
+    } finally {
+      // fired for failed batches too, so that listeners can pair it with the started event
+      factory.eventManager.fireEvent(DozerEventType.MAPPING_FINISHED, null, null, sources, result, null);
+    }
+
+    return result;
+  }
+
+  private static <T> void mapRange(MappingProcessorFactory factory, List<?> sources, int fromIndex, int toIndex,
+                                   Class<T> destClass, String mapId, Object[] results, RuntimeException[] failures) {
+    MappingProcessor processor = factory.create();
+    try {
+      processor.mapRange(sources, fromIndex, toIndex, destClass, mapId, results, failures);
+    } finally {
+      processor.releaseMappedObjects();
+    }
+  }
+
+  static int getChunkCount(int size, Executor executor) {
+    int parallelism = executor instanceof ForkJoinPool
+        ? ((ForkJoinPool) executor).getParallelism()
+        : Runtime.getRuntime().availableProcessors();
+    int maxChunkCount = (size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE;
+    return Math.min(maxChunkCount, parallelism * CHUNKS_PER_THREAD);
+  }
+
+}
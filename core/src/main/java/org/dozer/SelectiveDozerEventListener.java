@@ -0,0 +1,36 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.Set;
+
+import org.dozer.event.DozerEventType;
+
+/**
+ * Event listener declaring which events it consumes. Dozer only creates and dispatches events of the declared types,
+ * so a listener interested in {@link DozerEventType#MAPPING_STARTED} and {@link DozerEventType#MAPPING_FINISHED} alone
+ * does not slow down every field write. Listeners implementing only {@link DozerEventListener} receive all events.
+ */
+public interface SelectiveDozerEventListener extends DozerEventListener {
+
+    /**
+     * Called once, when the mapper is built.
+     *
+     * @return types of the events passed to this listener
+     */
+    Set<DozerEventType> getConsumedEventTypes();
+
+}
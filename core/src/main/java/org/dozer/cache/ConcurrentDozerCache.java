@@ -0,0 +1,170 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Thread safe Cache implementation backed by a {@link ConcurrentHashMap}. Reads never lock. Once the maximum size is
+ * exceeded, entries are evicted with a sampled LRU policy: a few entries are sampled from a cursor that walks the whole
+ * map over time and the least recently read one of them is removed.
+ * <p>
+ * Recency is tracked with a clock that only advances on writes. Reads stamp an entry with the current clock value and
+ * skip the write when the entry already carries it, so frequently read entries are not written to on every hit.
+ */
+public class ConcurrentDozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final String name;
+
+    private final int maximumSize;
+
+    private final ConcurrentMap<KeyType, Node<ValueType>> cacheMap;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Lock evictionLock = new ReentrantLock();
+
+    // guarded by evictionLock
+    private Iterator<Map.Entry<KeyType, Node<ValueType>>> evictionCursor;
+
+    public ConcurrentDozerCache(final String name, final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.cacheMap = new ConcurrentHashMap<KeyType, Node<ValueType>>(Math.min(maximumSize, 1024));
+    }
+
+    public void clear() {
+        cacheMap.clear();
+    }
+
+    public void put(KeyType key, ValueType value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cache entry key cannot be null");
+        }
+        cacheMap.put(key, new Node<ValueType>(value, clock.incrementAndGet()));
+        if (cacheMap.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    public ValueType get(KeyType key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Node<ValueType> node = cacheMap.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.touch(clock.get());
+        return node.value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return cacheMap.size();
+    }
+
+    public long getMaxSize() {
+        return maximumSize;
+    }
+
+    public boolean containsKey(KeyType key) {
+        return cacheMap.containsKey(key);
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            while (cacheMap.size() > maximumSize) {
+                if (!evictSample()) {
+                    return;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return false if there was nothing left to sample
+     */
+    private boolean evictSample() {
+        KeyType victimKey = null;
+        Node<ValueType> victim = null;
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE; i++) {
+            if (evictionCursor == null || !evictionCursor.hasNext()) {
+                evictionCursor = cacheMap.entrySet().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<KeyType, Node<ValueType>> entry = evictionCursor.next();
+            if (victim == null || entry.getValue().lastAccess < victim.lastAccess) {
+                victimKey = entry.getKey();
+                victim = entry.getValue();
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        cacheMap.remove(victimKey, victim);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
+                .append("name", name)
+                .append("maximumSize", maximumSize)
+                .append("size", cacheMap.size())
+                .toString();
+    }
+
+    private static final class Node<ValueType> {
+
+        private final ValueType value;
+
+        private volatile long lastAccess;
+
+        Node(ValueType value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        void touch(long now) {
+            if (lastAccess != now) {
+                lastAccess = now;
+            }
+        }
+    }
+}
@@ -54,7 +54,7 @@ public final class DozerCacheManager implements CacheManager {
     }
 
     public void addCache(String name, int maxElementsInMemory) {
-        addCache(new DozerCache(name, maxElementsInMemory));
+        addCache(new ConcurrentDozerCache(name, maxElementsInMemory));
     }
 
     public void addCache(Cache cache) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.classmap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Internal index of class maps by map id and source class, used by {@link ClassMappings} to resolve interface and
+ * abstract type mappings without scanning every class map. Only intended for internal use.
+ */
+final class ClassMapIndex {
+
+  // Source class --> Mapping Structures, for class maps without map id
+  private final ConcurrentMap<Class<?>, List<ClassMap>> withoutMapId = new ConcurrentHashMap<Class<?>, List<ClassMap>>();
+  // Map id --> Source class --> Mapping Structures
+  private final ConcurrentMap<String, ConcurrentMap<Class<?>, List<ClassMap>>> byMapId =
+      new ConcurrentHashMap<String, ConcurrentMap<Class<?>, List<ClassMap>>>();
+
+  void add(ClassMap classMap) {
+    Class<?> srcClass = classMap.getSrcClassToMap();
+    if (srcClass == null) {
+      return;
+    }
+
+    ConcurrentMap<Class<?>, List<ClassMap>> bySrcClass = withoutMapId;
+    String mapId = classMap.getMapId();
+    if (mapId != null) {
+      bySrcClass = byMapId.get(mapId);
+      if (bySrcClass == null) {
+        bySrcClass = new ConcurrentHashMap<Class<?>, List<ClassMap>>();
+        ConcurrentMap<Class<?>, List<ClassMap>> previous = byMapId.putIfAbsent(mapId, bySrcClass);
+        if (previous != null) {
+          bySrcClass = previous;
+        }
+      }
+    }
+
+    List<ClassMap> classMaps = bySrcClass.get(srcClass);
+    if (classMaps == null) {
+      classMaps = new CopyOnWriteArrayList<ClassMap>();
+      List<ClassMap> previous = bySrcClass.putIfAbsent(srcClass, classMaps);
+      if (previous != null) {
+        classMaps = previous;
+      }
+    }
+    classMaps.add(classMap);
+  }
+
+  /**
+   * @return class maps with exactly the given map id, which may be null, whose source class to map is srcClass
+   */
+  List<ClassMap> find(Class<?> srcClass, String mapId) {
+    ConcurrentMap<Class<?>, List<ClassMap>> bySrcClass = mapId == null ? withoutMapId : byMapId.get(mapId);
+    List<ClassMap> result = bySrcClass != null ? bySrcClass.get(srcClass) : null;
+    return result != null ? result : Collections.<ClassMap>emptyList();
+  }
+
+  /**
+   * @return all class maps with the given map id
+   */
+  List<ClassMap> findByMapId(String mapId) {
+    ConcurrentMap<Class<?>, List<ClassMap>> bySrcClass = byMapId.get(mapId);
+    if (bySrcClass == null) {
+      return Collections.emptyList();
+    }
+    List<ClassMap> result = new ArrayList<ClassMap>();
+    for (List<ClassMap> classMaps : bySrcClass.values()) {
+      result.addAll(classMaps);
+    }
+    return result;
+  }
+
+}
@@ -16,13 +16,23 @@
 package org.dozer.classmap;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.dozer.cache.Cache;
+import org.dozer.cache.CacheKeyFactory;
+import org.dozer.cache.ConcurrentDozerCache;
 import org.dozer.config.BeanContainer;
 import org.dozer.util.MappingUtils;
 
@@ -36,8 +46,24 @@ import org.dozer.util.MappingUtils;
  */
 public class ClassMappings {
 
-  // Cache key --> Mapping Structure
-  private ConcurrentMap<String, ClassMap> classMappings = new ConcurrentHashMap<String, ClassMap>();
+  private static final String NO_MAP_ID = "";
+  private static final int MISSING_INTERFACE_MAPPINGS_MAX_SIZE = 10000;
+
+  // Source class --> Destination class --> Map id --> Mapping Structure. Keyed on class identity so that lookups do not
+  // allocate. Mappings without map id are stored under an empty map id.
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>>> classMappings =
+      new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>>>();
+  // Lazily built index for interface, abstract type and map id lookups. Dropped when a mapping gets replaced
+  private volatile ClassMapIndex index;
+  private final Object indexLock = new Object();
+  // Incremented on every added mapping, invalidates the missing interface mappings below
+  private final AtomicLong generation = new AtomicLong();
+  // Source and destination class --> generation in which no interface mapping without map id was found. Bounded, as
+  // it holds an entry for every pair of classes ever looked up without a mapping
+  private final Cache<Object, Long> missingInterfaceMappings =
+      new ConcurrentDozerCache<Object, Long>("MissingInterfaceMappings", MISSING_INTERFACE_MAPPINGS_MAX_SIZE);
+  // Default mappings created while mapping, to tell them from the configured ones
+  private final Set<ClassMap> defaultMappings = Collections.newSetFromMap(new ConcurrentHashMap<ClassMap, Boolean>());
   private ClassMapKeyFactory keyFactory;
   private final BeanContainer beanContainer;
 
@@ -48,24 +74,30 @@ public class ClassMappings {
 
   // Default mappings. May be ovewritten due to multiple threads generating same mapping
   public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-    classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+    defaultMappings.add(classMap);
+    put(getOrCreateMappings(srcClass, destClass), NO_MAP_ID, classMap);
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-    ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+    ClassMap result = put(getOrCreateMappings(srcClass, destClass), NO_MAP_ID, classMap);
     failOnDuplicate(result, classMap);
   }
 
   public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
-    ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
+    ClassMap result = put(getOrCreateMappings(srcClass, destClass), toMapIdKey(mapId), classMap);
     failOnDuplicate(result, classMap);
   }
 
   public void addAll(ClassMappings additionalClassMappings) {
-    Map<String, ClassMap> newMappings = additionalClassMappings.getAll();
-    for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
-      ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
-      failOnDuplicate(result, entry.getValue());
+    for (Entry<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>>> srcEntry
+        : additionalClassMappings.classMappings.entrySet()) {
+      for (Entry<Class<?>, ConcurrentMap<String, ClassMap>> destEntry : srcEntry.getValue().entrySet()) {
+        ConcurrentMap<String, ClassMap> mappings = getOrCreateMappings(srcEntry.getKey(), destEntry.getKey());
+        for (Entry<String, ClassMap> entry : destEntry.getValue().entrySet()) {
+          ClassMap result = put(mappings, entry.getKey(), entry.getValue());
+          failOnDuplicate(result, entry.getValue());
+        }
+      }
     }
   }
 
@@ -77,42 +109,69 @@ public class ClassMappings {
   }
 
   public Map<String, ClassMap> getAll() {
-    return new HashMap<String, ClassMap>(classMappings);
+    Map<String, ClassMap> result = new HashMap<String, ClassMap>();
+    for (Entry<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>>> srcEntry : classMappings.entrySet()) {
+      for (Entry<Class<?>, ConcurrentMap<String, ClassMap>> destEntry : srcEntry.getValue().entrySet()) {
+        for (Entry<String, ClassMap> entry : destEntry.getValue().entrySet()) {
+          result.put(keyFactory.createKey(srcEntry.getKey(), destEntry.getKey(), entry.getKey()), entry.getValue());
+        }
+      }
+    }
+    return result;
   }
 
   public long size() {
-    return classMappings.size();
+    long result = 0;
+    for (ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>> destMappings : classMappings.values()) {
+      for (ConcurrentMap<String, ClassMap> mappings : destMappings.values()) {
+        result += mappings.size();
+      }
+    }
+    return result;
   }
 
   public ClassMap find(Class<?> srcClass, Class<?> destClass) {
-    return classMappings.get(keyFactory.createKey(srcClass, destClass));
+    return get(srcClass, destClass, NO_MAP_ID);
+  }
+
+  /**
+   * @return true if a mapping without map id was configured for the classes, in this or the other direction when it is
+   * bidirectional. Default mappings created while mapping are ignored.
+   */
+  public boolean isConfigured(Class<?> srcClass, Class<?> destClass) {
+    ClassMap mapping = find(srcClass, destClass);
+    if (mapping != null && !defaultMappings.contains(mapping)) {
+      return true;
+    }
+    mapping = find(destClass, srcClass);
+    return mapping != null && !defaultMappings.contains(mapping) && mapping.getType() != MappingDirection.ONE_WAY;
   }
 
   public boolean contains(Class<?> srcClass, Class<?> destClass, String mapId) {
-    String key = keyFactory.createKey(srcClass, destClass, mapId);
-    return classMappings.containsKey(key);
+    return get(srcClass, destClass, toMapIdKey(mapId)) != null;
   }
 
   public ClassMap find(Class<?> srcClass, Class<?> destClass, String mapId) {
-    final String key = keyFactory.createKey(srcClass, destClass, mapId);
-    ClassMap mapping = classMappings.get(key);
+    final String mapIdKey = toMapIdKey(mapId);
+    ClassMap mapping = get(srcClass, destClass, mapIdKey);
 
-    if (mapping == null) {
+    if (mapping == null && !isMissingInterfaceMapping(srcClass, destClass, mapId)) {
+      long currentGeneration = generation.get();
       mapping = findInterfaceMapping(destClass, srcClass, mapId);
       if (mapping != null) {
-        ClassMap previous = classMappings.putIfAbsent(keyFactory.createKey(srcClass, destClass, mapId), mapping);
+        ClassMap previous = getOrCreateMappings(srcClass, destClass).putIfAbsent(mapIdKey, mapping);
         if (previous != null) {
           mapping = previous;
         }
+      } else if (mapId == null) {
+        addMissingInterfaceMapping(srcClass, destClass, currentGeneration);
       }
     }
 
     // one more try...
     // if the mapId is not null looking up a map is easy
     if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
-      // probably a more efficient way to do this...
-      for (Entry<String, ClassMap> entry : classMappings.entrySet()) {
-        ClassMap classMap = entry.getValue();
+      for (ClassMap classMap : getIndex().findByMapId(mapId)) {
         if (StringUtils.equals(classMap.getMapId(), mapId)
                 && classMap.getSrcClassToMap().isAssignableFrom(srcClass)
                 && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
@@ -123,26 +182,101 @@ public class ClassMappings {
       }
 
       // If map-id was specified and mapping was not found, then fail
-      MappingUtils.throwMappingException("Class mapping not found by map-id: " + key);
+      MappingUtils.throwMappingException("Class mapping not found by map-id: " + keyFactory.createKey(srcClass, destClass, mapId));
     }
 
     return mapping;
   }
 
+  private ClassMap put(ConcurrentMap<String, ClassMap> mappings, String mapIdKey, ClassMap classMap) {
+    ClassMap previous = mappings.put(mapIdKey, classMap);
+    synchronized (indexLock) {
+      generation.incrementAndGet();
+      if (previous != null && previous != classMap) {
+        defaultMappings.remove(previous);
+        index = null;
+      } else if (previous == null && index != null) {
+        index.add(classMap);
+      }
+    }
+    return previous;
+  }
+
+  private ClassMap get(Class<?> srcClass, Class<?> destClass, String mapIdKey) {
+    ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>> destMappings =
+        classMappings.get(MappingUtils.getRealClass(srcClass, beanContainer));
+    if (destMappings == null) {
+      return null;
+    }
+    ConcurrentMap<String, ClassMap> mappings = destMappings.get(MappingUtils.getRealClass(destClass, beanContainer));
+    return mappings != null ? mappings.get(mapIdKey) : null;
+  }
+
+  private ConcurrentMap<String, ClassMap> getOrCreateMappings(Class<?> srcClass, Class<?> destClass) {
+    Class<?> srcRealClass = MappingUtils.getRealClass(srcClass, beanContainer);
+    Class<?> destRealClass = MappingUtils.getRealClass(destClass, beanContainer);
+
+    ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>> destMappings = classMappings.get(srcRealClass);
+    if (destMappings == null) {
+      destMappings = new ConcurrentHashMap<Class<?>, ConcurrentMap<String, ClassMap>>();
+      ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>> previous = classMappings.putIfAbsent(srcRealClass, destMappings);
+      if (previous != null) {
+        destMappings = previous;
+      }
+    }
+
+    ConcurrentMap<String, ClassMap> mappings = destMappings.get(destRealClass);
+    if (mappings == null) {
+      mappings = new ConcurrentHashMap<String, ClassMap>(4);
+      ConcurrentMap<String, ClassMap> previous = destMappings.putIfAbsent(destRealClass, mappings);
+      if (previous != null) {
+        mappings = previous;
+      }
+    }
+    return mappings;
+  }
+
+  private static String toMapIdKey(String mapId) {
+    return StringUtils.isNotEmpty(mapId) ? mapId : NO_MAP_ID;
+  }
+
+  private boolean isMissingInterfaceMapping(Class<?> srcClass, Class<?> destClass, String mapId) {
+    if (mapId != null) {
+      return false;
+    }
+    Long missingGeneration = missingInterfaceMappings.get(CacheKeyFactory.createKey(destClass, srcClass));
+    return missingGeneration != null && missingGeneration == generation.get();
+  }
+
+  private void addMissingInterfaceMapping(Class<?> srcClass, Class<?> destClass, long missingGeneration) {
+    missingInterfaceMappings.put(CacheKeyFactory.createKey(destClass, srcClass), missingGeneration);
+  }
+
   // Look for an interface mapping
   private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, String mapId) {
-    // Use object array for keys to avoid any rare thread synchronization issues
-    // while iterating over the custom mappings.
-    // See bug #1550275.
-    Object[] keys = classMappings.keySet().toArray();
-    for (Object key : keys) {
-      ClassMap map = classMappings.get(key);
-      Class<?> mappingDestClass = map.getDestClassToMap();
-      Class<?> mappingSrcClass = map.getSrcClassToMap();
+    ClassMapIndex classMapIndex = getIndex();
+    Class<?> srcRealClass = MappingUtils.getRealClass(srcClass, beanContainer);
 
-      if ((mapId == null && map.getMapId() != null) || (mapId != null && !mapId.equals(map.getMapId()))) {
-        continue;
+    // Only class maps of the source class itself or of one of the interfaces it implements can match
+    ClassMap result = findInterfaceMapping(classMapIndex.find(srcClass, mapId), destClass, srcClass, srcRealClass);
+    if (result == null && srcRealClass != srcClass) {
+      result = findInterfaceMapping(classMapIndex.find(srcRealClass, mapId), destClass, srcClass, srcRealClass);
+    }
+    if (result == null) {
+      for (Class<?> srcInterface : ClassUtils.getAllInterfaces(srcClass)) {
+        result = findInterfaceMapping(classMapIndex.find(srcInterface, mapId), destClass, srcClass, srcRealClass);
+        if (result != null) {
+          break;
+        }
       }
+    }
+    return result;
+  }
+
+  private ClassMap findInterfaceMapping(List<ClassMap> classMaps, Class<?> destClass, Class<?> srcClass, Class<?> srcRealClass) {
+    for (ClassMap map : classMaps) {
+      Class<?> mappingDestClass = map.getDestClassToMap();
+      Class<?> mappingSrcClass = map.getSrcClassToMap();
 
       if (isInterfaceImplementation(srcClass, mappingSrcClass)) {
         if (isInterfaceImplementation(destClass, mappingDestClass)) {
@@ -155,7 +289,7 @@ public class ClassMappings {
       // Destination could be an abstract type. Picking up the best concrete type to use.
       if ((destClass.isAssignableFrom(mappingDestClass) && isAbstract(destClass)) ||
               (isInterfaceImplementation(destClass, mappingDestClass))) {
-        if (MappingUtils.getRealClass(srcClass, beanContainer).equals(mappingSrcClass)) {
+        if (srcRealClass.equals(mappingSrcClass)) {
           return map;
         }
       }
@@ -164,6 +298,37 @@ public class ClassMappings {
     return null;
   }
 
+  private ClassMapIndex getIndex() {
+    ClassMapIndex result = index;
+    if (result == null) {
+      synchronized (indexLock) {
+        result = index;
+        if (result == null) {
+          result = new ClassMapIndex();
+          // the same class map may be stored under several keys
+          Set<ClassMap> indexed = Collections.newSetFromMap(new IdentityHashMap<ClassMap, Boolean>());
+          for (ClassMap classMap : getAllClassMaps()) {
+            if (indexed.add(classMap)) {
+              result.add(classMap);
+            }
+          }
+          index = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private List<ClassMap> getAllClassMaps() {
+    List<ClassMap> result = new ArrayList<ClassMap>();
+    for (ConcurrentMap<Class<?>, ConcurrentMap<String, ClassMap>> destMappings : classMappings.values()) {
+      for (ConcurrentMap<String, ClassMap> mappings : destMappings.values()) {
+        result.addAll(mappings.values());
+      }
+    }
+    return result;
+  }
+
   private boolean isInterfaceImplementation(Class<?> type, Class<?> mappingType) {
     return mappingType.isInterface() && mappingType.isAssignableFrom(type);
   }
@@ -41,7 +41,7 @@ public class Configuration {
   private String beanFactory;
   private RelationshipType relationshipType;
 
-  private final CustomConverterContainer customConverters = new CustomConverterContainer();
+  private CustomConverterContainer customConverters = new CustomConverterContainer();
   private final CopyByReferenceContainer copyByReferences = new CopyByReferenceContainer();
   private final AllowedExceptionContainer allowedExceptions = new AllowedExceptionContainer();
 
@@ -53,6 +53,10 @@ public class Configuration {
     return customConverters;
   }
 
+  public void setCustomConverters(CustomConverterContainer customConverters) {
+    this.customConverters = customConverters;
+  }
+
   public String getDateFormat() {
     return dateFormat;
   }
@@ -17,6 +17,8 @@ package org.dozer.classmap;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -31,13 +33,24 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 public class CopyByReferenceContainer {
 
   private List<CopyByReference> copyByReferences = new ArrayList<CopyByReference>();
+  // results of matching the masks against class names, collection elements are checked one by one
+  private final ConcurrentMap<Class<?>, Boolean> containsByType = new ConcurrentHashMap<Class<?>, Boolean>();
 
   public void add(CopyByReference copyByReference) {
     copyByReferences.add(copyByReference);
+    containsByType.clear();
   }
 
   public boolean contains(Class type) {
-    return contains(type.getName());
+    if (copyByReferences.isEmpty()) {
+      return false;
+    }
+    Boolean result = containsByType.get(type);
+    if (result == null) {
+      result = contains(type.getName());
+      containsByType.putIfAbsent(type, result);
+    }
+    return result;
   }
 
   public boolean contains(String typeName) {
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.compiler;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.dozer.cache.Cache;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.GenericFieldMap;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+import org.dozer.propertydescriptor.JavaBeanPropertyDescriptor;
+import org.dozer.propertydescriptor.PropertyAccessorType;
+import org.dozer.util.DozerConstants;
+import org.dozer.util.MappingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Internal class that resolves a fast path for the field maps of a class mapping. No code is generated: the mapping
+ * processor still iterates over all field maps, but plain java bean properties of the same primitive, wrapper, String
+ * or enum type on both sides are copied with accessors created by {@link PropertyAccessorType#LAMBDA}, as for those
+ * the generic mapping engine always ends up copying the value as is. Every other field map is left to the interpreted
+ * engine. Compiled class maps are created lazily and cached per class map. Only intended for internal use.
+ */
+public final class ClassMapCompiler {
+
+  private static final Logger log = LoggerFactory.getLogger(ClassMapCompiler.class);
+
+  private final ConcurrentMap<ClassMap, CompiledClassMap> compiledClassMaps = new ConcurrentHashMap<>();
+  private final Cache converterByDestTypeCache;
+
+  public ClassMapCompiler(Cache converterByDestTypeCache) {
+    this.converterByDestTypeCache = converterByDestTypeCache;
+  }
+
+  /**
+   * Returns compiled form of the class map if it applies to the runtime classes being mapped.
+   *
+   * @param classMap class map to compile
+   * @param srcClass runtime class of the source object
+   * @param destClass runtime class of the destination object
+   * @return compiled class map or null if nothing could be compiled for the given classes
+   */
+  public CompiledClassMap getCompiledClassMap(ClassMap classMap, Class<?> srcClass, Class<?> destClass) {
+    // field maps may be shared with sub classes, accessors are only generated for the exact mapped classes
+    if (srcClass != classMap.getSrcClassToMap() || destClass != classMap.getDestClassToMap()) {
+      return null;
+    }
+
+    CompiledClassMap result = compiledClassMaps.get(classMap);
+    if (result == null) {
+      result = compile(classMap);
+      CompiledClassMap existing = compiledClassMaps.putIfAbsent(classMap, result);
+      if (existing != null) {
+        result = existing;
+      }
+    }
+
+    if (result.getCompiledCount() == 0 || result.size() != classMap.getFieldMaps().size()) {
+      return null;
+    }
+    return result;
+  }
+
+  private CompiledClassMap compile(ClassMap classMap) {
+    List<FieldMap> fieldMaps = classMap.getFieldMaps();
+    CompiledFieldMapping[] fieldMappings = new CompiledFieldMapping[fieldMaps.size()];
+    int compiledCount = 0;
+    for (int i = 0; i < fieldMappings.length; i++) {
+      fieldMappings[i] = compile(classMap, fieldMaps.get(i));
+      if (fieldMappings[i] != null) {
+        compiledCount++;
+      }
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Compiled {} of {} field mappings for {} -> {}", compiledCount, fieldMappings.length,
+          classMap.getSrcClassName(), classMap.getDestClassName());
+    }
+    return compiledCount == 0 ? CompiledClassMap.NOT_COMPILED : new CompiledClassMap(fieldMappings, compiledCount);
+  }
+
+  private CompiledFieldMapping compile(ClassMap classMap, FieldMap fieldMap) {
+    if (!isCompilable(fieldMap)) {
+      return null;
+    }
+
+    try {
+      DozerPropertyDescriptor srcDescriptor = fieldMap.getSrcPropertyDescriptor(classMap.getSrcClassToMap());
+      DozerPropertyDescriptor destDescriptor = fieldMap.getDestPropertyDescriptor(classMap.getDestClassToMap());
+      if (srcDescriptor.getClass() != JavaBeanPropertyDescriptor.class || destDescriptor.getClass() != JavaBeanPropertyDescriptor.class) {
+        return null;
+      }
+
+      Method readMethod = ((JavaBeanPropertyDescriptor) srcDescriptor).getReadMethod();
+      Method writeMethod = ((JavaBeanPropertyDescriptor) destDescriptor).getWriteMethod();
+      Class<?> type = readMethod.getReturnType();
+      if (writeMethod.getParameterTypes()[0] != type || !isCompilableType(fieldMap, type)) {
+        return null;
+      }
+
+      return createFieldMapping(fieldMap, type, readMethod, writeMethod);
+    } catch (Throwable e) {
+      // not worth failing the mapping for, the interpreted engine will take care of this field
+      log.debug("Falling back to interpreted mapping of field {}", fieldMap, e);
+      return null;
+    }
+  }
+
+  private boolean isCompilable(FieldMap fieldMap) {
+    return fieldMap.getClass() == GenericFieldMap.class
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())
+        && MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+        && fieldMap.getSrcFieldType() == null
+        && fieldMap.getDestFieldType() == null
+        && fieldMap.getSrcHintContainer() == null
+        && fieldMap.getDestHintContainer() == null
+        && fieldMap.getSrcDeepIndexHintContainer() == null
+        && fieldMap.getDestDeepIndexHintContainer() == null
+        && !fieldMap.isSrcFieldIndexed()
+        && !fieldMap.isDestFieldIndexed()
+        && !fieldMap.isSrcFieldAccessible()
+        && !fieldMap.isDestFieldAccessible()
+        && fieldMap.getSrcFieldTheGetMethod() == null
+        && fieldMap.getDestFieldTheSetMethod() == null
+        && fieldMap.getSrcFieldMapGetMethod() == null
+        && fieldMap.getDestFieldMapSetMethod() == null
+        && isPlainProperty(fieldMap.getSrcFieldName())
+        && isPlainProperty(fieldMap.getDestFieldName());
+  }
+
+  private boolean isPlainProperty(String fieldName) {
+    return !DozerConstants.SELF_KEYWORD.equals(fieldName) && !MappingUtils.isDeepMapping(fieldName);
+  }
+
+  private boolean isCompilableType(FieldMap fieldMap, Class<?> type) {
+    boolean supported = type == int.class || type == long.class || type == double.class || type == boolean.class
+        || type == String.class || ClassUtils.isPrimitiveWrapper(type) || type.isEnum();
+    if (!supported) {
+      return false;
+    }
+
+    // a custom converter registered for the type always wins over copying the value, resolved as the
+    // interpreted engine does for the runtime source value and the declared destination type
+    return MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap().getCustomConverters(),
+        ClassUtils.primitiveToWrapper(type), type) == null;
+  }
+
+  private CompiledFieldMapping createFieldMapping(FieldMap fieldMap, Class<?> type, Method readMethod, Method writeMethod) {
+    PropertyAccessorType accessorType = PropertyAccessorType.LAMBDA;
+    if (type == int.class) {
+      return new CompiledFieldMappings.IntFieldMapping(accessorType.createReader(readMethod), accessorType.createWriter(writeMethod));
+    } else if (type == long.class) {
+      return new CompiledFieldMappings.LongFieldMapping(accessorType.createReader(readMethod), accessorType.createWriter(writeMethod));
+    } else if (type == double.class) {
+      return new CompiledFieldMappings.DoubleFieldMapping(accessorType.createReader(readMethod),
+          accessorType.createWriter(writeMethod));
+    } else if (type == boolean.class) {
+      return new CompiledFieldMappings.BooleanFieldMapping(accessorType.createReader(readMethod),
+          accessorType.createWriter(writeMethod));
+    }
+
+    return new CompiledFieldMappings.ReferenceFieldMapping(accessorType.createReader(readMethod),
+        accessorType.createWriter(writeMethod), fieldMap.isDestMapNull(), fieldMap.isDestMapEmptyString(),
+        fieldMap.isTrimStrings());
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.compiler;
+
+/**
+ * Internal class holding the compiled form of a class mapping. Field mappings are stored in the same order as the
+ * field maps of the originating class map, a null entry means that the field has to be mapped by the interpreted
+ * engine. Only intended for internal use.
+ */
+public final class CompiledClassMap {
+
+  static final CompiledClassMap NOT_COMPILED = new CompiledClassMap(new CompiledFieldMapping[0], 0);
+
+  private final CompiledFieldMapping[] fieldMappings;
+  private final int compiledCount;
+
+  CompiledClassMap(CompiledFieldMapping[] fieldMappings, int compiledCount) {
+    this.fieldMappings = fieldMappings;
+    this.compiledCount = compiledCount;
+  }
+
+  /**
+   * @param index position of the field map within the class map
+   * @return compiled field mapping or null if the field has to be mapped by the interpreted engine
+   */
+  public CompiledFieldMapping getFieldMapping(int index) {
+    return fieldMappings[index];
+  }
+
+  public int size() {
+    return fieldMappings.length;
+  }
+
+  public int getCompiledCount() {
+    return compiledCount;
+  }
+
+}
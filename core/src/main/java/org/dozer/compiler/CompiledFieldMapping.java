@@ -0,0 +1,33 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.compiler;
+
+/**
+ * Internal contract of a single field mapping that has been compiled into direct accessor calls. Reads the source
+ * property and writes the destination property without going through the generic conversion pipeline. Only intended
+ * for internal use.
+ */
+public interface CompiledFieldMapping {
+
+  /**
+   * Copies the field value from the source object to the destination object.
+   *
+   * @param srcObj source object, an instance of the class the field mapping was compiled for
+   * @param destObj destination object, an instance of the class the field mapping was compiled for
+   */
+  void map(Object srcObj, Object destObj);
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.compiler;
+
+import org.dozer.propertydescriptor.PropertyReader;
+import org.dozer.propertydescriptor.PropertyWriter;
+
+/**
+ * Internal field mapping implementations produced by {@link ClassMapCompiler}. Primitive values never get boxed on
+ * their way from the getter to the setter. Only intended for internal use.
+ */
+final class CompiledFieldMappings {
+
+  private CompiledFieldMappings() {
+
+  }
+
+  static final class IntFieldMapping implements CompiledFieldMapping {
+
+    private final PropertyReader getter;
+    private final PropertyWriter setter;
+
+    IntFieldMapping(PropertyReader getter, PropertyWriter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public void map(Object srcObj, Object destObj) {
+      setter.writeInt(destObj, getter.readInt(srcObj));
+    }
+  }
+
+  static final class LongFieldMapping implements CompiledFieldMapping {
+
+    private final PropertyReader getter;
+    private final PropertyWriter setter;
+
+    LongFieldMapping(PropertyReader getter, PropertyWriter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public void map(Object srcObj, Object destObj) {
+      setter.writeLong(destObj, getter.readLong(srcObj));
+    }
+  }
+
+  static final class DoubleFieldMapping implements CompiledFieldMapping {
+
+    private final PropertyReader getter;
+    private final PropertyWriter setter;
+
+    DoubleFieldMapping(PropertyReader getter, PropertyWriter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public void map(Object srcObj, Object destObj) {
+      setter.writeDouble(destObj, getter.readDouble(srcObj));
+    }
+  }
+
+  static final class BooleanFieldMapping implements CompiledFieldMapping {
+
+    private final PropertyReader getter;
+    private final PropertyWriter setter;
+
+    BooleanFieldMapping(PropertyReader getter, PropertyWriter setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public void map(Object srcObj, Object destObj) {
+      setter.writeBoolean(destObj, getter.readBoolean(srcObj));
+    }
+  }
+
+  /**
+   * Copies immutable values (strings, wrappers, enums) by reference while honouring the map-null, map-empty-string and
+   * trim-strings policies of the field map.
+   */
+  static final class ReferenceFieldMapping implements CompiledFieldMapping {
+
+    private final PropertyReader getter;
+    private final PropertyWriter setter;
+    private final boolean mapNull;
+    private final boolean mapEmptyString;
+    private final boolean trimStrings;
+
+    ReferenceFieldMapping(PropertyReader getter, PropertyWriter setter, boolean mapNull, boolean mapEmptyString,
+                          boolean trimStrings) {
+      this.getter = getter;
+      this.setter = setter;
+      this.mapNull = mapNull;
+      this.mapEmptyString = mapEmptyString;
+      this.trimStrings = trimStrings;
+    }
+
+    public void map(Object srcObj, Object destObj) {
+      Object value = getter.read(srcObj);
+      if (value == null) {
+        if (!mapNull) {
+          return;
+        }
+      } else if (value instanceof String) {
+        // same order as the interpreted engine, the empty check applies to the trimmed value
+        if (trimStrings) {
+          value = ((String) value).trim();
+        }
+        if (!mapEmptyString && ((String) value).isEmpty()) {
+          return;
+        }
+      }
+      setter.write(destObj, value);
+    }
+  }
+
+}
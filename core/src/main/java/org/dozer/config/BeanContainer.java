@@ -19,6 +19,8 @@ import org.dozer.el.ELEngine;
 import org.dozer.el.NoopELEngine;
 import org.dozer.loader.xml.ElementReader;
 import org.dozer.loader.xml.ExpressionElementReader;
+import org.dozer.propertydescriptor.PropertyAccessorType;
+import org.dozer.util.CachingProxyResolver;
 import org.dozer.util.DefaultClassLoader;
 import org.dozer.util.DefaultProxyResolver;
 import org.dozer.util.DozerClassLoader;
@@ -31,9 +33,10 @@ public class BeanContainer {
 
   DozerClassLoader classLoader = new DefaultClassLoader(getClass().getClassLoader());
   DozerClassLoader tccl = new DefaultClassLoader(Thread.currentThread().getContextClassLoader());
-  DozerProxyResolver proxyResolver = new DefaultProxyResolver();
+  DozerProxyResolver proxyResolver = CachingProxyResolver.wrap(new DefaultProxyResolver());
   ElementReader elementReader = new ExpressionElementReader(new NoopELEngine());
   ELEngine elEngine;
+  PropertyAccessorType propertyAccessorType = PropertyAccessorType.fromValue(SettingsDefaults.PROPERTY_ACCESSOR);
 
   public DozerClassLoader getClassLoader() {
     return classLoader;
@@ -51,8 +54,14 @@ public class BeanContainer {
     return proxyResolver;
   }
 
+  /**
+   * Sets the proxy resolver. It is wrapped into a {@link CachingProxyResolver}, so {@link #getProxyResolver()} returns
+   * the wrapper.
+   *
+   * @param proxyResolver proxy resolver to use
+   */
   public void setProxyResolver(DozerProxyResolver proxyResolver) {
-    this.proxyResolver = proxyResolver;
+    this.proxyResolver = CachingProxyResolver.wrap(proxyResolver);
   }
 
   public ElementReader getElementReader() {
@@ -70,4 +79,12 @@ public class BeanContainer {
   public void setElEngine(ELEngine elEngine) {
     this.elEngine = elEngine;
   }
+
+  public PropertyAccessorType getPropertyAccessorType() {
+    return propertyAccessorType;
+  }
+
+  public void setPropertyAccessorType(PropertyAccessorType propertyAccessorType) {
+    this.propertyAccessorType = propertyAccessorType;
+  }
 }
@@ -23,6 +23,9 @@ public class Settings {
     private Integer superTypesCacheMaxSize = SettingsDefaults.SUPER_TYPE_CHECK_CACHE_MAX_SIZE;
     private String classLoaderBeanName = SettingsDefaults.CLASS_LOADER_BEAN;
     private String proxyResolverBeanName = SettingsDefaults.PROXY_RESOLVER_BEAN;
+    private Boolean compiledClassMapsEnabled = SettingsDefaults.COMPILED_CLASS_MAPS_ENABLED;
+    private String propertyAccessor = SettingsDefaults.PROPERTY_ACCESSOR;
+    private Boolean treeModeEnabled = SettingsDefaults.TREE_MODE_ENABLED;
 
     public Settings() {
 
@@ -35,6 +38,14 @@ public class Settings {
         this.proxyResolverBeanName = proxyResolverBeanName;
     }
 
+    public Settings(Integer converterByDestTypeCacheMaxSize, Integer superTypesCacheMaxSize, String classLoaderBeanName, String proxyResolverBeanName,
+                    Boolean compiledClassMapsEnabled, String propertyAccessor, Boolean treeModeEnabled) {
+        this(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName);
+        this.compiledClassMapsEnabled = compiledClassMapsEnabled;
+        this.propertyAccessor = propertyAccessor;
+        this.treeModeEnabled = treeModeEnabled;
+    }
+
     public Integer getConverterByDestTypeCacheMaxSize() {
         return converterByDestTypeCacheMaxSize;
     }
@@ -51,6 +62,18 @@ public class Settings {
         return proxyResolverBeanName;
     }
 
+    public Boolean getCompiledClassMapsEnabled() {
+        return compiledClassMapsEnabled;
+    }
+
+    public String getPropertyAccessor() {
+        return propertyAccessor;
+    }
+
+    public Boolean getTreeModeEnabled() {
+        return treeModeEnabled;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -58,6 +81,9 @@ public class Settings {
                 .append("superTypesCacheMaxSize", superTypesCacheMaxSize)
                 .append("classLoaderBeanName", classLoaderBeanName)
                 .append("proxyResolverBeanName", proxyResolverBeanName)
+                .append("compiledClassMapsEnabled", compiledClassMapsEnabled)
+                .append("propertyAccessor", propertyAccessor)
+                .append("treeModeEnabled", treeModeEnabled)
                 .toString();
     }
 }
@@ -27,4 +27,7 @@ public final class SettingsDefaults {
     public static final Integer SUPER_TYPE_CHECK_CACHE_MAX_SIZE = 10000;
     public static final String CLASS_LOADER_BEAN = "org.dozer.util.DefaultClassLoader";
     public static final String PROXY_RESOLVER_BEAN = "org.dozer.util.DefaultProxyResolver";
+    public static final Boolean COMPILED_CLASS_MAPS_ENABLED = Boolean.FALSE;
+    public static final String PROPERTY_ACCESSOR = "reflection";
+    public static final Boolean TREE_MODE_ENABLED = Boolean.FALSE;
 }
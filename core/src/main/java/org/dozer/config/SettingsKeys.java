@@ -29,6 +29,9 @@ public final class SettingsKeys {
     public static final String SUPER_TYPE_CHECK_CACHE_MAX_SIZE = "dozer.cache.super-type-maxsize";
     public static final String CLASS_LOADER_BEAN = "dozer.beans.class-loader-bean";
     public static final String PROXY_RESOLVER_BEAN = "dozer.beans.proxy-resolver-bean";
+    public static final String COMPILED_CLASS_MAPS_ENABLED = "dozer.mapping.compiled-class-maps-enabled";
+    public static final String PROPERTY_ACCESSOR = "dozer.mapping.property-accessor";
+    public static final String TREE_MODE_ENABLED = "dozer.mapping.tree-mode-enabled";
 
     @Deprecated
     public static final String DEPRECATED_EL_ENABLED = "dozer.el.enabled";
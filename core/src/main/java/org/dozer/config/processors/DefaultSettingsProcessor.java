@@ -51,7 +51,15 @@ public class DefaultSettingsProcessor implements SettingsProcessor {
         Integer superTypesCacheMaxSize = Integer.valueOf(getValue(SettingsKeys.SUPER_TYPE_CHECK_CACHE_MAX_SIZE,
                                                                   SettingsDefaults.SUPER_TYPE_CHECK_CACHE_MAX_SIZE).toString());
 
-        return new Settings(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName);
+        Boolean compiledClassMapsEnabled = Boolean.valueOf(getValue(SettingsKeys.COMPILED_CLASS_MAPS_ENABLED,
+                                                                    SettingsDefaults.COMPILED_CLASS_MAPS_ENABLED).toString());
+
+        String propertyAccessor = String.valueOf(getValue(SettingsKeys.PROPERTY_ACCESSOR, SettingsDefaults.PROPERTY_ACCESSOR));
+
+        Boolean treeModeEnabled = Boolean.valueOf(getValue(SettingsKeys.TREE_MODE_ENABLED, SettingsDefaults.TREE_MODE_ENABLED).toString());
+
+        return new Settings(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName,
+                            compiledClassMapsEnabled, propertyAccessor, treeModeEnabled);
     }
 
     private void createSettingsResolvers() {
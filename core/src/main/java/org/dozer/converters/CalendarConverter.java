@@ -17,9 +17,11 @@ package org.dozer.converters;
 
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
@@ -36,13 +38,26 @@ import org.apache.commons.beanutils.Converter;
  */
 public class CalendarConverter implements Converter {
 
-    private DateFormat dateFormat;
+    private final DateFormatContainer dateFormatContainer;
 
     public CalendarConverter(DateFormat dateFormat) {
-        this.dateFormat = dateFormat;
+        this(DateFormatContainer.forDateFormat(dateFormat));
+    }
+
+    private CalendarConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
+    /**
+     * Creates a converter looking up the date format from the container on every conversion. The converter is thread
+     * safe if the container is shared.
+     */
+    static CalendarConverter forContainer(DateFormatContainer dateFormatContainer) {
+        return new CalendarConverter(dateFormatContainer);
     }
 
     public Object convert(Class destClass, Object srcObj) {
+        DateFormat dateFormat = dateFormatContainer.getDateFormat();
         Calendar result = new GregorianCalendar();
         Class srcFieldClass = srcObj.getClass();
         // Convert from Date to Calendar
@@ -57,6 +72,10 @@ public class CalendarConverter implements Converter {
             Calendar c = ((XMLGregorianCalendar) srcObj).toGregorianCalendar();
             result.setTime(c.getTime());
             result.setTimeZone(c.getTimeZone());
+        } else if (JavaTimeConverter.isJavaTimeType(srcFieldClass)) {
+            ZonedDateTime dateTime = JavaTimeConverter.toZonedDateTime(srcObj);
+            result.setTimeZone(TimeZone.getTimeZone(dateTime.getZone()));
+            result.setTimeInMillis(dateTime.toInstant().toEpochMilli());
         } else if (dateFormat != null && String.class.isAssignableFrom(srcFieldClass)) {
             // String to Calendar
             try {
@@ -82,6 +101,6 @@ public class CalendarConverter implements Converter {
     }
 
     public DateFormat getDateFormat() {
-        return dateFormat;
+        return dateFormatContainer.getDateFormat();
     }
 }
@@ -16,7 +16,13 @@
 package org.dozer.converters;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
@@ -32,13 +38,61 @@ import org.dozer.cache.CacheKeyFactory;
  */
 public class CustomConverterContainer {
 
+  private static final Object NO_CONVERTER = new Object();
+
   private List<CustomConverterDescription> converters = new ArrayList<CustomConverterDescription>();
+  // only set for shared containers, which can not be modified
+  private final Map<Class<?>, Map<Class<?>, Integer>> exactMatches;
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Object>> resolvedConverters;
+
+  public CustomConverterContainer() {
+    this.exactMatches = null;
+    this.resolvedConverters = null;
+  }
+
+  private CustomConverterContainer(List<CustomConverterDescription> converters) {
+    this.converters = Collections.unmodifiableList(converters);
+    this.exactMatches = new HashMap<Class<?>, Map<Class<?>, Integer>>();
+    this.resolvedConverters = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Object>>();
+    for (int i = converters.size() - 1; i >= 0; i--) {
+      Class<?> classA = converters.get(i).getClassA();
+      Class<?> classB = converters.get(i).getClassB();
+      if (classA != null && classB != null) {
+        indexExactMatch(classA, classB, i);
+        indexExactMatch(classB, classA, i);
+      }
+    }
+  }
+
+  /**
+   * Creates a container which can be shared by any number of class maps. It can not be modified, so the converter
+   * found for a pair of classes is only looked up once.
+   *
+   * @param converters converters in order of precedence
+   * @return shared container
+   */
+  public static CustomConverterContainer shared(Collection<CustomConverterDescription> converters) {
+    return new CustomConverterContainer(new ArrayList<CustomConverterDescription>(converters));
+  }
+
+  private void indexExactMatch(Class<?> src, Class<?> dest, int position) {
+    Map<Class<?>, Integer> byDest = exactMatches.get(src);
+    if (byDest == null) {
+      byDest = new HashMap<Class<?>, Integer>();
+      exactMatches.put(src, byDest);
+    }
+    // iterating backwards, so the first converter for the exact pair stays
+    byDest.put(dest, position);
+  }
 
   public List<CustomConverterDescription> getConverters() {
     return converters;
   }
 
   public void setConverters(List<CustomConverterDescription> converters) {
+    if (resolvedConverters != null) {
+      throw new UnsupportedOperationException("Shared converters can not be replaced");
+    }
     if (converters == null) {
       throw new NullPointerException("Converters can not be null!");
     }
@@ -54,10 +108,11 @@ public class CustomConverterContainer {
       return null;
     }
 
-    // Check cache first
+    // Check cache first, with a single read as the entry may be evicted at any time
     final Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
-    if (converterTypeCache.containsKey(cacheKey)) { // even null
-      return (Class) converterTypeCache.get(cacheKey);
+    Object cached = converterTypeCache.get(cacheKey);
+    if (cached != null) {
+      return cached != NO_CONVERTER ? (Class) cached : null;
     }
 
     // Let's see if the incoming class is a primitive:
@@ -65,14 +120,48 @@ public class CustomConverterContainer {
     final Class dest = ClassUtils.primitiveToWrapper(destClass);
 
     Class appropriateConverter = findConverter(src, dest);
-    converterTypeCache.put(cacheKey, appropriateConverter);
+    converterTypeCache.put(cacheKey, appropriateConverter != null ? appropriateConverter : NO_CONVERTER);
 
     return appropriateConverter;
   }
 
   public Class findConverter(Class src, Class dest) {
+    if (resolvedConverters == null) {
+      return findConverter(src, dest, converters.size());
+    }
+
+    ConcurrentMap<Class<?>, Object> byDest = resolvedConverters.get(src);
+    if (byDest == null) {
+      byDest = new ConcurrentHashMap<Class<?>, Object>();
+      ConcurrentMap<Class<?>, Object> existing = resolvedConverters.putIfAbsent(src, byDest);
+      if (existing != null) {
+        byDest = existing;
+      }
+    }
+    Object result = byDest.get(dest);
+    if (result == null) {
+      Class converter = findSharedConverter(src, dest);
+      result = converter != null ? converter : NO_CONVERTER;
+      byDest.putIfAbsent(dest, result);
+    }
+    return result != NO_CONVERTER ? (Class) result : null;
+  }
+
+  private Class findSharedConverter(Class src, Class dest) {
+    Map<Class<?>, Integer> byDest = exactMatches.get(src);
+    Integer exactMatch = byDest != null ? byDest.get(dest) : null;
+    if (exactMatch == null) {
+      return findConverter(src, dest, converters.size());
+    }
+    // converters before the exact match still take precedence if they match through the class hierarchy
+    Class result = findConverter(src, dest, exactMatch);
+    return result != null ? result : converters.get(exactMatch).getType();
+  }
+
+  private Class findConverter(Class src, Class dest, int limit) {
     // Otherwise, loop through custom converters and look for a match. Also, store the result in the cache
-    for (CustomConverterDescription customConverter : converters) {
+    for (int i = 0; i < limit; i++) {
+      CustomConverterDescription customConverter = converters.get(i);
       final Class classA = customConverter.getClassA();
       final Class classB = customConverter.getClassB();
 
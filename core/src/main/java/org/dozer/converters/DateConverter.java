@@ -19,6 +19,7 @@ import java.lang.reflect.Constructor;
 import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.Instant;
 import java.util.Calendar;
 
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -44,13 +45,26 @@ import org.apache.commons.beanutils.Converter;
  */
 public class DateConverter implements Converter {
 
-    private DateFormat dateFormat;
+    private final DateFormatContainer dateFormatContainer;
 
     public DateConverter(DateFormat dateFormat) {
-        this.dateFormat = dateFormat;
+        this(DateFormatContainer.forDateFormat(dateFormat));
+    }
+
+    private DateConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
+    /**
+     * Creates a converter looking up the date format from the container on every conversion. The converter is thread
+     * safe if the container is shared.
+     */
+    static DateConverter forContainer(DateFormatContainer dateFormatContainer) {
+        return new DateConverter(dateFormatContainer);
     }
 
     public Object convert(Class destClass, Object srcObj) {
+        DateFormat dateFormat = dateFormatContainer.getDateFormat();
         final Class srcFieldClass = srcObj.getClass();
 
         long time;
@@ -66,6 +80,10 @@ public class DateConverter implements Converter {
             time = ((java.util.Date) srcObj).getTime();
         } else if (XMLGregorianCalendar.class.isAssignableFrom(srcFieldClass)) {
             time = ((XMLGregorianCalendar) srcObj).toGregorianCalendar().getTimeInMillis();
+        } else if (JavaTimeConverter.isJavaTimeType(srcFieldClass)) {
+            Instant instant = JavaTimeConverter.toInstant(srcObj);
+            time = instant.toEpochMilli();
+            nanos = instant.getNano();
         } else if (dateFormat != null && String.class.isAssignableFrom(srcObj.getClass())) {
             try {
                 if ("".equals(srcObj)) {
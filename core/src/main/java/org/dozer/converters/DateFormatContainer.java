@@ -17,23 +17,82 @@ package org.dozer.converters;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Internal class used as a container to determine the date format to use for a particular field mapping. Only intended
  * for internal use.  
  * 
+ * Containers obtained by {@link #forPattern(String)} are shared and immutable, they hand out a date format cached per
+ * thread, as {@link SimpleDateFormat} is not thread safe.
+ * 
  * @author tierney.matt
  */
 public class DateFormatContainer {
-  private String dfStr;
+
+  private static final DateFormatContainer NO_DATE_FORMAT = new DateFormatContainer(null, true);
+  private static final ConcurrentMap<String, DateFormatContainer> SHARED_CONTAINERS = new ConcurrentHashMap<String, DateFormatContainer>();
+  // date formats of the current thread by locale and pattern, only holding JDK classes to not leak the class loader
+  private static final ThreadLocal<Map<Locale, Map<String, DateFormat>>> THREAD_DATE_FORMATS =
+      ThreadLocal.withInitial(HashMap::new);
+
+  // java.time formatters by pattern, they are immutable and thread safe
+  private static final ConcurrentMap<String, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<String, DateTimeFormatter>();
+
+  private final String dfStr;
+  private final boolean shared;
   private DateFormat dateFormat;
 
   public DateFormatContainer(String dfStr) {
+    this(dfStr, false);
+  }
+
+  private DateFormatContainer(String dfStr, boolean shared) {
     this.dfStr = dfStr;
+    this.shared = shared;
+  }
+
+  /**
+   * @param dfStr date format pattern, may be null
+   * @return shared container for the pattern
+   */
+  public static DateFormatContainer forPattern(String dfStr) {
+    if (dfStr == null) {
+      return NO_DATE_FORMAT;
+    }
+    DateFormatContainer container = SHARED_CONTAINERS.get(dfStr);
+    if (container == null) {
+      container = new DateFormatContainer(dfStr, true);
+      DateFormatContainer existing = SHARED_CONTAINERS.putIfAbsent(dfStr, container);
+      if (existing != null) {
+        container = existing;
+      }
+    }
+    return container;
+  }
+
+  /**
+   * @param dateFormat date format to use
+   * @return new container for the date format
+   */
+  public static DateFormatContainer forDateFormat(DateFormat dateFormat) {
+    DateFormatContainer container = new DateFormatContainer(null);
+    container.setDateFormat(dateFormat);
+    return container;
   }
 
   public DateFormat getDateFormat() {
+    if (shared) {
+      return dfStr == null ? null : getThreadDateFormat(dfStr);
+    }
     if (dateFormat == null) {
       dateFormat = determineDateFormat();
     }
@@ -41,10 +100,178 @@ public class DateFormatContainer {
   }
 
   public void setDateFormat(DateFormat dateFormat) {
+    if (shared) {
+      throw new UnsupportedOperationException("Shared date format containers can not be modified");
+    }
     this.dateFormat = dateFormat;
   }
 
+  /**
+   * @return formatter for the java.time types with the same pattern as the date format, or null if there is no pattern
+   * @see #toDateTimeFormatter(String)
+   */
+  public DateTimeFormatter getDateTimeFormatter() {
+    String pattern = dfStr;
+    if (pattern == null && dateFormat instanceof SimpleDateFormat) {
+      pattern = ((SimpleDateFormat) dateFormat).toPattern();
+    }
+    if (pattern == null) {
+      return null;
+    }
+    DateTimeFormatter formatter = DATE_TIME_FORMATTERS.get(pattern);
+    if (formatter == null) {
+      try {
+        formatter = toDateTimeFormatter(pattern);
+      } catch (IllegalArgumentException e) {
+        throw new ConversionException("Date format " + pattern + " can not be used for java.time types: " + e.getMessage(), e);
+      }
+      DATE_TIME_FORMATTERS.putIfAbsent(pattern, formatter);
+    }
+    return formatter.withLocale(Locale.getDefault());
+  }
+
+  /**
+   * @return true if this container is shared and immutable, so converters using it can be cached
+   */
+  public boolean isShared() {
+    return shared;
+  }
+
+  /**
+   * Translates a {@link SimpleDateFormat} pattern, as the pattern syntax of {@link DateTimeFormatter} differs for some
+   * letters. Numeric fields keep the minimum width given by the number of letters, S stays milliseconds, u the day
+   * number of the week, F the day of week in month and Z the RFC 822 offset. Characters other than letters are
+   * literals, even those reserved by {@link DateTimeFormatter} like #, {, [ or ]. Letters unknown to
+   * {@link SimpleDateFormat} keep their {@link DateTimeFormatter} meaning.
+   *
+   * @param pattern {@link SimpleDateFormat} pattern
+   * @return formatter producing the same text as the date format
+   * @throws IllegalArgumentException if the pattern is invalid
+   */
+  static DateTimeFormatter toDateTimeFormatter(String pattern) {
+    DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+    int length = pattern.length();
+    int i = 0;
+    while (i < length) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        i = appendQuoted(builder, pattern, i + 1);
+      } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+        int count = 1;
+        while (i + count < length && pattern.charAt(i + count) == c) {
+          count++;
+        }
+        appendField(builder, c, count);
+        i += count;
+      } else {
+        builder.appendLiteral(c);
+        i++;
+      }
+    }
+    return builder.toFormatter();
+  }
+
+  private static int appendQuoted(DateTimeFormatterBuilder builder, String pattern, int start) {
+    // '' is a single quote, both inside and outside of quoted text
+    if (start < pattern.length() && pattern.charAt(start) == '\'') {
+      builder.appendLiteral('\'');
+      return start + 1;
+    }
+    StringBuilder literal = new StringBuilder();
+    int i = start;
+    while (true) {
+      if (i >= pattern.length()) {
+        throw new IllegalArgumentException("Unterminated quote");
+      }
+      char c = pattern.charAt(i++);
+      if (c != '\'') {
+        literal.append(c);
+      } else if (i < pattern.length() && pattern.charAt(i) == '\'') {
+        literal.append(c);
+        i++;
+      } else {
+        break;
+      }
+    }
+    builder.appendLiteral(literal.toString());
+    return i;
+  }
+
+  private static void appendField(DateTimeFormatterBuilder builder, char letter, int count) {
+    switch (letter) {
+      case 'd':
+        appendNumber(builder, ChronoField.DAY_OF_MONTH, count);
+        break;
+      case 'D':
+        appendNumber(builder, ChronoField.DAY_OF_YEAR, count);
+        break;
+      case 'F':
+        appendNumber(builder, ChronoField.ALIGNED_WEEK_OF_MONTH, count);
+        break;
+      case 'u':
+        appendNumber(builder, ChronoField.DAY_OF_WEEK, count);
+        break;
+      case 'H':
+        appendNumber(builder, ChronoField.HOUR_OF_DAY, count);
+        break;
+      case 'k':
+        appendNumber(builder, ChronoField.CLOCK_HOUR_OF_DAY, count);
+        break;
+      case 'K':
+        appendNumber(builder, ChronoField.HOUR_OF_AMPM, count);
+        break;
+      case 'h':
+        appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, count);
+        break;
+      case 'm':
+        appendNumber(builder, ChronoField.MINUTE_OF_HOUR, count);
+        break;
+      case 's':
+        appendNumber(builder, ChronoField.SECOND_OF_MINUTE, count);
+        break;
+      case 'S':
+        appendNumber(builder, ChronoField.MILLI_OF_SECOND, count);
+        break;
+      case 'Z':
+        builder.appendOffset("+HHMM", "+0000");
+        break;
+      default:
+        // y, Y, M, L, w, W, E, a, G, z and X have the same meaning in both syntaxes
+        builder.appendPattern(repeat(letter, count));
+    }
+  }
+
+  private static void appendNumber(DateTimeFormatterBuilder builder, ChronoField field, int count) {
+    if (count == 1) {
+      builder.appendValue(field);
+    } else {
+      builder.appendValue(field, count);
+    }
+  }
+
+  private static String repeat(char letter, int count) {
+    char[] letters = new char[count];
+    Arrays.fill(letters, letter);
+    return new String(letters);
+  }
+
   private DateFormat determineDateFormat() {
     return dfStr == null ? null : new SimpleDateFormat(dfStr, Locale.getDefault());
   }
+
+  private static DateFormat getThreadDateFormat(String dfStr) {
+    Locale locale = Locale.getDefault();
+    Map<Locale, Map<String, DateFormat>> formatsByLocale = THREAD_DATE_FORMATS.get();
+    Map<String, DateFormat> formats = formatsByLocale.get(locale);
+    if (formats == null) {
+      formats = new HashMap<String, DateFormat>();
+      formatsByLocale.put(locale, formats);
+    }
+    DateFormat result = formats.get(dfStr);
+    if (result == null) {
+      result = new SimpleDateFormat(dfStr, locale);
+      formats.put(dfStr, result);
+    }
+    return result;
+  }
 }
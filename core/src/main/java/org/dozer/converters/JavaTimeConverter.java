@@ -0,0 +1,187 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.apache.commons.beanutils.Converter;
+
+/**
+ * Internal converter for the java.time types Instant, LocalDate, LocalDateTime, OffsetDateTime and ZonedDateTime.
+ * <p>
+ * Supported source data types are these java.time types, java.util.Date and its subclasses, java.util.Calendar,
+ * javax.xml.datatype.XMLGregorianCalendar, numbers of milliseconds since the epoch and java.lang.String. Strings are
+ * parsed with the date format pattern if there is one, in ISO format otherwise. Values without a time zone are
+ * interpreted in the system default time zone. As java.time values are immutable, a value of the destination type is
+ * returned as is.
+ * <p>
+ * Only intended for internal use.
+ */
+public class JavaTimeConverter implements Converter {
+
+    private static final Set<Class<?>> JAVA_TIME_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(Instant.class,
+            LocalDate.class, LocalDateTime.class, OffsetDateTime.class, ZonedDateTime.class));
+
+    private final DateFormatContainer dateFormatContainer;
+
+    public JavaTimeConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
+    public static boolean isJavaTimeType(Class<?> aClass) {
+        return JAVA_TIME_TYPES.contains(aClass);
+    }
+
+    public Object convert(Class destClass, Object srcObj) {
+        if (destClass.isInstance(srcObj)) {
+            return srcObj;
+        }
+        try {
+            if (srcObj instanceof String) {
+                if ("".equals(srcObj)) {
+                    return null;
+                }
+                DateTimeFormatter formatter = dateFormatContainer != null ? dateFormatContainer.getDateTimeFormatter() : null;
+                return formatter != null ? fromParsed(destClass, formatter.parse((String) srcObj))
+                        : parse(destClass, (String) srcObj);
+            }
+            if (Instant.class.equals(destClass)) {
+                return toInstant(srcObj);
+            }
+            return fromZonedDateTime(destClass, toZonedDateTime(srcObj));
+        } catch (DateTimeException e) {
+            throw new ConversionException("Unable to convert " + srcObj + " to " + destClass.getName(), e);
+        }
+    }
+
+    /**
+     * @param srcObj supported source value
+     * @return instant of the value
+     */
+    static Instant toInstant(Object srcObj) {
+        if (srcObj instanceof Instant) {
+            return (Instant) srcObj;
+        } else if (srcObj instanceof Timestamp) {
+            return ((Timestamp) srcObj).toInstant();
+        } else if (srcObj instanceof java.util.Date) {
+            // java.sql.Date and Time do not support toInstant
+            return Instant.ofEpochMilli(((java.util.Date) srcObj).getTime());
+        } else if (srcObj instanceof Number) {
+            return Instant.ofEpochMilli(((Number) srcObj).longValue());
+        }
+        return toZonedDateTime(srcObj).toInstant();
+    }
+
+    /**
+     * @param srcObj supported source value
+     * @return value in its own time zone, or in the system default time zone if it has none
+     */
+    static ZonedDateTime toZonedDateTime(Object srcObj) {
+        if (srcObj instanceof ZonedDateTime) {
+            return (ZonedDateTime) srcObj;
+        } else if (srcObj instanceof OffsetDateTime) {
+            return ((OffsetDateTime) srcObj).toZonedDateTime();
+        } else if (srcObj instanceof LocalDateTime) {
+            return ((LocalDateTime) srcObj).atZone(ZoneId.systemDefault());
+        } else if (srcObj instanceof LocalDate) {
+            return ((LocalDate) srcObj).atStartOfDay(ZoneId.systemDefault());
+        } else if (srcObj instanceof GregorianCalendar) {
+            return ((GregorianCalendar) srcObj).toZonedDateTime();
+        } else if (srcObj instanceof Calendar) {
+            Calendar calendar = (Calendar) srcObj;
+            return ZonedDateTime.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+        } else if (srcObj instanceof XMLGregorianCalendar) {
+            return ((XMLGregorianCalendar) srcObj).toGregorianCalendar().toZonedDateTime();
+        } else if (srcObj instanceof Instant || srcObj instanceof java.util.Date || srcObj instanceof Number) {
+            return toInstant(srcObj).atZone(ZoneId.systemDefault());
+        }
+        throw new ConversionException("Unable to determine date and time of source object " + srcObj, null);
+    }
+
+    /**
+     * Formats a java.time value, instants are formatted in the system default time zone.
+     */
+    static String format(Object srcObj, DateTimeFormatter formatter) {
+        TemporalAccessor temporal = srcObj instanceof Instant ? ((Instant) srcObj).atZone(ZoneId.systemDefault())
+                : (TemporalAccessor) srcObj;
+        try {
+            return formatter.format(temporal);
+        } catch (DateTimeException e) {
+            throw new ConversionException("Unable to format " + srcObj + " using specified date format", e);
+        }
+    }
+
+    private static Object parse(Class<?> destClass, String text) {
+        if (Instant.class.equals(destClass)) {
+            return Instant.parse(text);
+        } else if (LocalDate.class.equals(destClass)) {
+            return LocalDate.parse(text);
+        } else if (LocalDateTime.class.equals(destClass)) {
+            return LocalDateTime.parse(text);
+        } else if (OffsetDateTime.class.equals(destClass)) {
+            return OffsetDateTime.parse(text);
+        }
+        return ZonedDateTime.parse(text);
+    }
+
+    private static Object fromParsed(Class<?> destClass, TemporalAccessor parsed) {
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null) {
+            throw new ConversionException("Specified date format does not contain a date", null);
+        }
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        LocalDateTime dateTime = time != null ? date.atTime(time) : date.atStartOfDay();
+        if (LocalDate.class.equals(destClass)) {
+            return date;
+        } else if (LocalDateTime.class.equals(destClass)) {
+            return dateTime;
+        }
+        ZoneId zone = parsed.query(TemporalQueries.zone());
+        return fromZonedDateTime(destClass, dateTime.atZone(zone != null ? zone : ZoneId.systemDefault()));
+    }
+
+    private static Object fromZonedDateTime(Class<?> destClass, ZonedDateTime dateTime) {
+        if (Instant.class.equals(destClass)) {
+            return dateTime.toInstant();
+        } else if (LocalDate.class.equals(destClass)) {
+            return dateTime.toLocalDate();
+        } else if (LocalDateTime.class.equals(destClass)) {
+            return dateTime.toLocalDateTime();
+        } else if (OffsetDateTime.class.equals(destClass)) {
+            return dateTime.toOffsetDateTime();
+        }
+        return dateTime;
+    }
+
+}
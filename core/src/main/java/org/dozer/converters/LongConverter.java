@@ -33,6 +33,8 @@ public class LongConverter implements Converter {
         if (Boolean.class.isAssignableFrom(srcObj.getClass())) {
             boolean value = (Boolean)srcObj;
             return value ? (long)1 : (long)0;
+        } else if (JavaTimeConverter.isJavaTimeType(srcObj.getClass())) {
+            return JavaTimeConverter.toInstant(srcObj).toEpochMilli();
         } else if (MappingUtils.isEnumType(srcObj.getClass())) {
             return ((Integer)((Enum)srcObj).ordinal()).longValue();
         } else {
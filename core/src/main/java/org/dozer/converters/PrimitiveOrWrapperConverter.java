@@ -20,6 +20,8 @@ import java.math.BigInteger;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBElement;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -48,6 +50,7 @@ import org.dozer.util.MappingUtils;
 public class PrimitiveOrWrapperConverter {
 
     private static final Map<Class, Converter> CONVERTER_MAP = new HashMap<Class, Converter>();
+    private static final Converter ENUM_CONVERTER = new EnumConverter();
 
     static {
         CONVERTER_MAP.put(Integer.class, new IntegerConverter());
@@ -64,6 +67,9 @@ public class PrimitiveOrWrapperConverter {
     }
 
     private final BeanContainer beanContainer;
+    // converters by shared date format container and destination class, they are stateless apart from the container
+    private final ConcurrentMap<DateFormatContainer, ConcurrentMap<Class<?>, Converter>> sharedConverters =
+            new ConcurrentHashMap<DateFormatContainer, ConcurrentMap<Class<?>, Converter>>();
 
     public PrimitiveOrWrapperConverter(BeanContainer beanContainer) {
         this.beanContainer = beanContainer;
@@ -93,26 +99,49 @@ public class PrimitiveOrWrapperConverter {
     }
 
     private Converter getPrimitiveOrWrapperConverter(Class destClass, DateFormatContainer dateFormatContainer, String destFieldName, Object destObj) {
-        if (String.class.equals(destClass)) {
-            return new StringConverter(dateFormatContainer);
-        }
-
         Converter result = CONVERTER_MAP.get(ClassUtils.primitiveToWrapper(destClass));
+        if (result != null) {
+            return result;
+        }
+        if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
+            // depends on the destination object, can not be cached
+            return new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat(), beanContainer);
+        }
+        if (dateFormatContainer == null || !dateFormatContainer.isShared()) {
+            return createConverter(destClass, dateFormatContainer);
+        }
 
-        if (result == null) {
-            if (java.util.Date.class.isAssignableFrom(destClass)) {
-                result = new DateConverter(dateFormatContainer.getDateFormat());
-            } else if (Calendar.class.isAssignableFrom(destClass)) {
-                result = new CalendarConverter(dateFormatContainer.getDateFormat());
-            } else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
-                result = new XMLGregorianCalendarConverter(dateFormatContainer.getDateFormat());
-            } else if (MappingUtils.isEnumType(destClass)) {
-                result = new EnumConverter();
-            } else if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
-                result = new JAXBElementConverter(destObj.getClass().getCanonicalName(), destFieldName, dateFormatContainer.getDateFormat(), beanContainer);
+        ConcurrentMap<Class<?>, Converter> convertersByDestClass = sharedConverters.get(dateFormatContainer);
+        if (convertersByDestClass == null) {
+            convertersByDestClass = new ConcurrentHashMap<Class<?>, Converter>();
+            ConcurrentMap<Class<?>, Converter> existing = sharedConverters.putIfAbsent(dateFormatContainer, convertersByDestClass);
+            if (existing != null) {
+                convertersByDestClass = existing;
             }
         }
-        return result == null ? new StringConstructorConverter(dateFormatContainer) : result;
+        result = convertersByDestClass.get(destClass);
+        if (result == null) {
+            result = createConverter(destClass, dateFormatContainer);
+            convertersByDestClass.putIfAbsent(destClass, result);
+        }
+        return result;
+    }
+
+    private Converter createConverter(Class destClass, DateFormatContainer dateFormatContainer) {
+        if (String.class.equals(destClass)) {
+            return new StringConverter(dateFormatContainer);
+        } else if (java.util.Date.class.isAssignableFrom(destClass)) {
+            return DateConverter.forContainer(dateFormatContainer);
+        } else if (Calendar.class.isAssignableFrom(destClass)) {
+            return CalendarConverter.forContainer(dateFormatContainer);
+        } else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
+            return XMLGregorianCalendarConverter.forContainer(dateFormatContainer);
+        } else if (JavaTimeConverter.isJavaTimeType(destClass)) {
+            return new JavaTimeConverter(dateFormatContainer);
+        } else if (MappingUtils.isEnumType(destClass)) {
+            return ENUM_CONVERTER;
+        }
+        return new StringConstructorConverter(dateFormatContainer);
     }
 
     public boolean accepts(Class<?> aClass) {
@@ -122,7 +151,8 @@ public class PrimitiveOrWrapperConverter {
                        || Character.class.equals(aClass)
                        || Boolean.class.equals(aClass)
                        || java.util.Date.class.isAssignableFrom(aClass)
-                       || java.util.Calendar.class.isAssignableFrom(aClass);
+                       || java.util.Calendar.class.isAssignableFrom(aClass)
+                       || JavaTimeConverter.isJavaTimeType(aClass);
     }
 
 }
@@ -40,6 +40,9 @@ public class StringConverter implements Converter {
     } else if (dateFormatContainer != null && java.util.Calendar.class.isAssignableFrom(srcClass)
         && dateFormatContainer.getDateFormat() != null) {
       result = dateFormatContainer.getDateFormat().format(((java.util.Calendar) srcObj).getTime());
+    } else if (dateFormatContainer != null && JavaTimeConverter.isJavaTimeType(srcClass)
+        && dateFormatContainer.getDateTimeFormatter() != null) {
+      result = JavaTimeConverter.format(srcObj, dateFormatContainer.getDateTimeFormatter());
     } else {
       result = srcObj.toString();
     }
@@ -17,9 +17,11 @@ package org.dozer.converters;
 
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -51,10 +53,22 @@ import org.dozer.MappingException;
  */
 public class XMLGregorianCalendarConverter implements Converter {
 
-    private DateFormat dateFormat;
+    private final DateFormatContainer dateFormatContainer;
 
     public XMLGregorianCalendarConverter(DateFormat dateFormat) {
-        this.dateFormat = dateFormat;
+        this(DateFormatContainer.forDateFormat(dateFormat));
+    }
+
+    private XMLGregorianCalendarConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
+    /**
+     * Creates a converter looking up the date format from the container on every conversion. The converter is thread
+     * safe if the container is shared.
+     */
+    static XMLGregorianCalendarConverter forContainer(DateFormatContainer dateFormatContainer) {
+        return new XMLGregorianCalendarConverter(dateFormatContainer);
     }
 
     /**
@@ -82,6 +96,7 @@ public class XMLGregorianCalendarConverter implements Converter {
      * {@inheritDoc}
      */
     public Object convert(Class destClass, Object srcObj) {
+        DateFormat dateFormat = dateFormatContainer.getDateFormat();
         Class sourceClass = srcObj.getClass();
         Calendar result = new GregorianCalendar();
 
@@ -95,6 +110,11 @@ public class XMLGregorianCalendarConverter implements Converter {
             result.setTimeZone(c.getTimeZone());
         } else if (XMLGregorianCalendar.class.isAssignableFrom(sourceClass)) {
             result = XMLGregorianCalendar.class.cast(srcObj).toGregorianCalendar();
+        } else if (JavaTimeConverter.isJavaTimeType(sourceClass)) {
+            // java.time --> XMLGregorianCalendar
+            ZonedDateTime dateTime = JavaTimeConverter.toZonedDateTime(srcObj);
+            result.setTimeZone(TimeZone.getTimeZone(dateTime.getZone()));
+            result.setTimeInMillis(dateTime.toInstant().toEpochMilli());
         } else if (dateFormat != null && String.class.isAssignableFrom(sourceClass)) {
             if ("".equals(String.class.cast(srcObj))) {
                 return null;
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+import org.dozer.DozerEventListener;
+import org.dozer.MappingException;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.util.ImmutableTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event listener passing events to another listener on a dedicated thread, so that a slow listener does not stall
+ * mapping. Events are queued in a bounded buffer and delivered in batches. The {@link BackpressurePolicy} decides what
+ * happens when the listener falls behind.
+ *
+ * <p>
+ * Objects still being mapped may change before the listener sees them. Events are therefore queued with a snapshot of
+ * their source object, destination object and destination value. By default immutable values are kept and all other
+ * values are replaced by null, see {@link Builder#withSnapshot(UnaryOperator)}.
+ *
+ * <p>
+ * The delivery thread runs until {@link #close()} is called.
+ */
+public final class AsyncDozerEventListener implements SelectiveDozerEventListener, AutoCloseable {
+
+  /**
+   * What mapping threads do with an event when the buffer is full.
+   */
+  public enum BackpressurePolicy {
+    /** Wait until the listener made room for the event. */
+    BLOCK,
+    /** Discard the event. */
+    DROP,
+    /** Once the buffer is half full, only queue one of every sample rate events, discard events when it is full. */
+    SAMPLE
+  }
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncDozerEventListener.class);
+
+  private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final UnaryOperator<Object> IMMUTABLE_VALUES =
+      value -> ImmutableTypes.isImmutable(value.getClass()) ? value : null;
+
+  private final DozerEventListener delegate;
+  private final Set<DozerEventType> consumedEventTypes;
+  private final EventRingBuffer buffer;
+  private final BackpressurePolicy backpressurePolicy;
+  private final int sampleRate;
+  private final int batchSize;
+  private final UnaryOperator<Object> snapshot;
+  private final Thread consumer;
+
+  private final AtomicLong published = new AtomicLong();
+  private final AtomicLong delivered = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong sampled = new AtomicLong();
+
+  private volatile boolean closed;
+  private volatile boolean idle;
+
+  private AsyncDozerEventListener(Builder builder) {
+    this.delegate = builder.delegate;
+    Set<DozerEventType> eventTypes = EnumSet.allOf(DozerEventType.class);
+    if (delegate instanceof SelectiveDozerEventListener) {
+      eventTypes.retainAll(((SelectiveDozerEventListener) delegate).getConsumedEventTypes());
+    }
+    this.consumedEventTypes = Collections.unmodifiableSet(eventTypes);
+    this.buffer = new EventRingBuffer(builder.capacity);
+    this.backpressurePolicy = builder.backpressurePolicy;
+    this.sampleRate = builder.sampleRate;
+    this.batchSize = builder.batchSize;
+    this.snapshot = builder.snapshot;
+    this.consumer = new Thread(this::deliver, "dozer-events-" + delegate.getClass().getSimpleName());
+    consumer.setDaemon(true);
+  }
+
+  /**
+   * @param delegate listener receiving the events on the delivery thread
+   * @return builder of the asynchronous listener
+   */
+  public static Builder create(DozerEventListener delegate) {
+    return new Builder(delegate);
+  }
+
+  public Set<DozerEventType> getConsumedEventTypes() {
+    return consumedEventTypes;
+  }
+
+  public void mappingStarted(DozerEvent event) {
+    publish(event);
+  }
+
+  public void preWritingDestinationValue(DozerEvent event) {
+    publish(event);
+  }
+
+  public void postWritingDestinationValue(DozerEvent event) {
+    publish(event);
+  }
+
+  public void mappingFinished(DozerEvent event) {
+    publish(event);
+  }
+
+  /**
+   * @return number of events queued for the listener
+   */
+  public long getPublishedCount() {
+    return published.get();
+  }
+
+  /**
+   * @return number of events passed to the listener
+   */
+  public long getDeliveredCount() {
+    return delivered.get();
+  }
+
+  /**
+   * @return number of events discarded by the backpressure policy or after closing
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * @return number of queued events the listener did not receive yet
+   */
+  public long getLag() {
+    return published.get() - delivered.get();
+  }
+
+  /**
+   * Stops accepting events and waits until the queued ones are delivered.
+   */
+  public void close() {
+    closed = true;
+    LockSupport.unpark(consumer);
+    if (Thread.currentThread() == consumer) {
+      return;
+    }
+    try {
+      consumer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void publish(DozerEvent event) {
+    if (closed) {
+      dropped.incrementAndGet();
+      return;
+    }
+    if (backpressurePolicy == BackpressurePolicy.SAMPLE && buffer.size() >= buffer.capacity() / 2
+        && sampled.getAndIncrement() % sampleRate != 0) {
+      dropped.incrementAndGet();
+      return;
+    }
+    DozerEvent eventSnapshot = new DozerEvent(event.getType(), event.getClassMap(), event.getFieldMap(),
+        snapshot(event.getSourceObject()), snapshot(event.getDestinationObject()), snapshot(event.getDestinationValue()));
+    while (!buffer.offer(eventSnapshot)) {
+      if (backpressurePolicy != BackpressurePolicy.BLOCK || closed) {
+        dropped.incrementAndGet();
+        return;
+      }
+      LockSupport.unpark(consumer);
+      LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+    }
+    published.incrementAndGet();
+    if (idle) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  private Object snapshot(Object value) {
+    return value != null ? snapshot.apply(value) : null;
+  }
+
+  private void deliver() {
+    while (true) {
+      int count = 0;
+      DozerEvent event;
+      while (count < batchSize && (event = buffer.poll()) != null) {
+        dispatch(event);
+        count++;
+      }
+      if (count == 0) {
+        if (closed && buffer.size() == 0) {
+          return;
+        }
+        // publishers read idle after queueing, so either the size check sees their event or they unpark this thread
+        idle = true;
+        if (buffer.size() == 0 && !closed) {
+          LockSupport.park(this);
+        }
+        idle = false;
+      }
+    }
+  }
+
+  private void dispatch(DozerEvent event) {
+    try {
+      switch (event.getType()) {
+        case MAPPING_STARTED:
+          delegate.mappingStarted(event);
+          break;
+        case MAPPING_PRE_WRITING_DEST_VALUE:
+          delegate.preWritingDestinationValue(event);
+          break;
+        case MAPPING_POST_WRITING_DEST_VALUE:
+          delegate.postWritingDestinationValue(event);
+          break;
+        case MAPPING_FINISHED:
+          delegate.mappingFinished(event);
+          break;
+        default:
+          break;
+      }
+    } catch (RuntimeException e) {
+      log.error("Event listener " + delegate + " failed to handle " + event.getType(), e);
+    } finally {
+      delivered.incrementAndGet();
+    }
+  }
+
+  /**
+   * Builds an {@link AsyncDozerEventListener}, which starts its delivery thread once built.
+   */
+  public static final class Builder {
+
+    private final DozerEventListener delegate;
+    private int capacity = 1024;
+    private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+    private int sampleRate = 10;
+    private int batchSize = 64;
+    private UnaryOperator<Object> snapshot = IMMUTABLE_VALUES;
+
+    private Builder(DozerEventListener delegate) {
+      if (delegate == null) {
+        throw new MappingException("Event listener must not be null");
+      }
+      this.delegate = delegate;
+    }
+
+    /**
+     * @param capacity number of events the buffer holds, rounded up to a power of two, 1024 by default
+     * @return this builder
+     */
+    public Builder withCapacity(int capacity) {
+      if (capacity <= 0 || capacity > 1 << 30) {
+        throw new MappingException("Invalid event buffer capacity: " + capacity);
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * @param backpressurePolicy what to do with events when the buffer is full, {@link BackpressurePolicy#BLOCK} by
+     *                           default
+     * @return this builder
+     */
+    public Builder withBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+      if (backpressurePolicy == null) {
+        throw new MappingException("Backpressure policy must not be null");
+      }
+      this.backpressurePolicy = backpressurePolicy;
+      return this;
+    }
+
+    /**
+     * @param sampleRate one of every sampleRate events is kept by {@link BackpressurePolicy#SAMPLE}, 10 by default
+     * @return this builder
+     */
+    public Builder withSampleRate(int sampleRate) {
+      if (sampleRate <= 0) {
+        throw new MappingException("Invalid sample rate: " + sampleRate);
+      }
+      this.sampleRate = sampleRate;
+      return this;
+    }
+
+    /**
+     * @param batchSize maximum number of events delivered before checking for new ones, 64 by default
+     * @return this builder
+     */
+    public Builder withBatchSize(int batchSize) {
+      if (batchSize <= 0) {
+        throw new MappingException("Invalid batch size: " + batchSize);
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Sets how the source object, destination object and destination value of events are captured on the mapping
+     * thread. The function is only called with non null values and must return objects which do not change anymore,
+     * for example copies. By default immutable values are kept and others replaced by null.
+     *
+     * @param snapshot function capturing event values
+     * @return this builder
+     */
+    public Builder withSnapshot(UnaryOperator<Object> snapshot) {
+      if (snapshot == null) {
+        throw new MappingException("Snapshot function must not be null");
+      }
+      this.snapshot = snapshot;
+      return this;
+    }
+
+    public AsyncDozerEventListener build() {
+      AsyncDozerEventListener listener = new AsyncDozerEventListener(this);
+      listener.consumer.start();
+      return listener;
+    }
+  }
+
+}
@@ -15,32 +15,59 @@
  */
 package org.dozer.event;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
 import org.dozer.util.MappingUtils;
 
 
 /**
- * Internal class that handles dozer events and invokes any public event listeners. Only intended for internal use.
+ * Internal class that handles dozer events and invokes any public event listeners. The listeners consuming each event
+ * type are resolved once, events of a type without listeners are not even created. Only intended for internal use.
  * 
  * @author garsombke.franz
  */
 public final class DozerEventManager implements EventManager {
   
-  private final List<? extends DozerEventListener> eventListeners;
+  private final Map<DozerEventType, List<DozerEventListener>> listenersByType =
+      new EnumMap<DozerEventType, List<DozerEventListener>>(DozerEventType.class);
 
   public DozerEventManager(List<? extends DozerEventListener> eventListeners) {
-    this.eventListeners = eventListeners;
+    for (DozerEventType eventType : DozerEventType.values()) {
+      List<DozerEventListener> listeners = new ArrayList<DozerEventListener>();
+      if (eventListeners != null) {
+        for (DozerEventListener listener : eventListeners) {
+          if (!(listener instanceof SelectiveDozerEventListener)
+              || ((SelectiveDozerEventListener) listener).getConsumedEventTypes().contains(eventType)) {
+            listeners.add(listener);
+          }
+        }
+      }
+      listenersByType.put(eventType, listeners.isEmpty() ? Collections.<DozerEventListener>emptyList() : listeners);
+    }
   }
 
-  public void fireEvent(DozerEvent event) {
-    // If no listeners were specified, then just return.
-    if (eventListeners == null) {
-      return;
+  public boolean hasListeners(DozerEventType eventType) {
+    return !listenersByType.get(eventType).isEmpty();
+  }
+
+  public void fireEvent(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap, Object sourceObject,
+                        Object destinationObject, Object destinationValue) {
+    if (hasListeners(eventType)) {
+      fireEvent(new DozerEvent(eventType, classMap, fieldMap, sourceObject, destinationObject, destinationValue));
     }
+  }
+
+  public void fireEvent(DozerEvent event) {
     DozerEventType eventType = event.getType();
-    for (DozerEventListener listener : eventListeners) {
+    for (DozerEventListener listener : listenersByType.get(eventType)) {
       switch (eventType) {
        case MAPPING_STARTED:
          listener.mappingStarted(event);
@@ -15,6 +15,9 @@
  */
 package org.dozer.event;
 
+import org.dozer.classmap.ClassMap;
+import org.dozer.fieldmap.FieldMap;
+
 /**
  * Internal event manager interface. Only intended for internal use.
  * 
@@ -24,4 +27,12 @@ public interface EventManager {
 
   void fireEvent(DozerEvent event);
 
+  /**
+   * Creates and fires the event, unless no listener consumes events of this type.
+   */
+  void fireEvent(DozerEventType eventType, ClassMap classMap, FieldMap fieldMap, Object sourceObject, Object destinationObject,
+                 Object destinationValue);
+
+  boolean hasListeners(DozerEventType eventType);
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Internal bounded lock-free queue, written to by any number of mapping threads and read by a single consumer thread.
+ * Every slot carries a sequence number telling whether it is free for the producer of a given position or published
+ * for the consumer. Only intended for internal use.
+ */
+final class EventRingBuffer {
+
+  private final DozerEvent[] events;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  // only written by the consumer thread
+  private volatile long head;
+
+  EventRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    events = new DozerEvent[size];
+    sequences = new AtomicLongArray(size);
+    mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * @return false if the buffer is full
+   */
+  boolean offer(DozerEvent event) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) position & mask;
+      long available = sequences.get(index) - position;
+      if (available == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          events[index] = event;
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+      } else if (available < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Only called by the consumer thread.
+   *
+   * @return next published event, or null if there is none
+   */
+  DozerEvent poll() {
+    long position = head;
+    int index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    DozerEvent event = events[index];
+    events[index] = null;
+    sequences.lazySet(index, position + events.length);
+    head = position + 1;
+    return event;
+  }
+
+  int size() {
+    return (int) Math.max(0, tail.get() - head);
+  }
+
+  int capacity() {
+    return events.length;
+  }
+
+}
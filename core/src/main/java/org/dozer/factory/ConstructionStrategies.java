@@ -113,6 +113,9 @@ public final class ConstructionStrategies {
     static class ByCreateMethod implements BeanCreationStrategy {
 
         private final BeanContainer beanContainer;
+        // create methods by class to create and create method name
+        private final ConcurrentMap<Class<?>, ConcurrentMap<String, Method>> createMethods =
+            new ConcurrentHashMap<Class<?>, ConcurrentMap<String, Method>>();
 
         ByCreateMethod(BeanContainer beanContainer) {
             this.beanContainer = beanContainer;
@@ -127,6 +130,23 @@ public final class ConstructionStrategies {
             Class<?> actualClass = directive.getActualClass();
             String createMethod = directive.getCreateMethod();
 
+            ConcurrentMap<String, Method> methods = createMethods.get(actualClass);
+            if (methods == null) {
+                methods = new ConcurrentHashMap<String, Method>();
+                ConcurrentMap<String, Method> existing = createMethods.putIfAbsent(actualClass, methods);
+                if (existing != null) {
+                    methods = existing;
+                }
+            }
+            Method method = methods.get(createMethod);
+            if (method == null) {
+                method = resolveMethod(actualClass, createMethod);
+                methods.putIfAbsent(createMethod, method);
+            }
+            return ReflectionUtils.invoke(method, null, null);
+        }
+
+        private Method resolveMethod(Class<?> actualClass, String createMethod) {
             Method method;
             if (createMethod.contains(".")) {
                 String methodName = createMethod.substring(createMethod.lastIndexOf(".") + 1, createMethod.length());
@@ -137,7 +157,7 @@ public final class ConstructionStrategies {
             } else {
                 method = findMethod(actualClass, createMethod);
             }
-            return ReflectionUtils.invoke(method, null, null);
+            return method;
         }
 
         private Method findMethod(Class<?> actualClass, String createMethod) {
@@ -351,6 +371,9 @@ public final class ConstructionStrategies {
 
     static class ByConstructor implements BeanCreationStrategy {
 
+        // accessible no-arg constructors, only classes which have one are cached
+        private final ConcurrentMap<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<Class<?>, Constructor<?>>();
+
         public boolean isApplicable(BeanCreationDirective directive) {
             return true;
         }
@@ -370,7 +393,29 @@ public final class ConstructionStrategies {
             return null;
         }
 
-        private static <T> T newInstance(Class<T> clazz) {
+        private <T> T newInstance(Class<T> clazz) {
+            Constructor<T> constructor = (Constructor<T>)constructors.get(clazz);
+            if (constructor == null) {
+                constructor = findConstructor(clazz);
+                constructors.putIfAbsent(clazz, constructor);
+            }
+
+            T result = null;
+            try {
+                result = constructor.newInstance(null);
+            } catch (IllegalArgumentException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InstantiationException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (IllegalAccessException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InvocationTargetException e) {
+                MappingUtils.throwMappingException(e);
+            }
+            return result;
+        }
+
+        private static <T> Constructor<T> findConstructor(Class<T> clazz) {
             //Create using public or private no-arg constructor
             Constructor<T> constructor = null;
             try {
@@ -391,20 +436,7 @@ public final class ConstructionStrategies {
             if (!constructor.isAccessible()) {
                 constructor.setAccessible(true);
             }
-
-            T result = null;
-            try {
-                result = constructor.newInstance(null);
-            } catch (IllegalArgumentException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (InstantiationException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (IllegalAccessException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (InvocationTargetException e) {
-                MappingUtils.throwMappingException(e);
-            }
-            return result;
+            return constructor;
         }
 
     }
@@ -15,14 +15,15 @@
  */
 package org.dozer.factory;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.dozer.BeanFactory;
 import org.dozer.config.BeanContainer;
+import org.dozer.util.MappingUtils;
 
 /**
  * Internal class that contains the logic used to create a new instance of the destination object being mapped. Performs
@@ -35,12 +36,15 @@ import org.dozer.config.BeanContainer;
  */
 public final class DestBeanCreator {
 
-  static final List<BeanCreationStrategy> pluggedStrategies = new ArrayList<>();
+  static final List<BeanCreationStrategy> pluggedStrategies = new CopyOnWriteArrayList<>();
 
   // order in this collection determines resolving priority
   private final BeanCreationStrategy[] availableStrategies;
   private final ConstructionStrategies constructionStrategies;
   private final BeanContainer beanContainer;
+  // applicability of the available strategies only depends on the class to create and on whether a create method,
+  // a factory or skipping the constructor is requested, see flagsOf
+  private final ConcurrentMap<Class<?>, BeanCreationStrategy[]> resolvedStrategies = new ConcurrentHashMap<>();
 
   public DestBeanCreator(BeanContainer beanContainer) {
     this.constructionStrategies = new ConstructionStrategies(beanContainer);
@@ -67,9 +71,12 @@ public final class DestBeanCreator {
   }
 
   public Object create(BeanCreationDirective directive) {
-    Object result = applyStrategies(directive, pluggedStrategies);
+    Object result = null;
+    if (!pluggedStrategies.isEmpty()) {
+      result = applyStrategies(directive, pluggedStrategies);
+    }
     if (result == null) {
-      result = applyStrategies(directive, Arrays.asList(availableStrategies));
+      result = resolveStrategy(directive).create(directive);
     }
 
     return result;
@@ -77,12 +84,11 @@ public final class DestBeanCreator {
 
   private Object applyStrategies(BeanCreationDirective directive, List<BeanCreationStrategy> strategies) {
     // TODO create method lookup by annotation/convention
-    // TODO Cache ConstructionStrategy (reuse caching infrastructure)
     // TODO Check resulting type in each method
     // TODO Directive toString()
     // TODO review and document
 
-    for (BeanCreationStrategy strategy : new CopyOnWriteArrayList<>(strategies)) {
+    for (BeanCreationStrategy strategy : strategies) {
       if (strategy.isApplicable(directive)) {
         return strategy.create(directive);
       }
@@ -90,6 +96,58 @@ public final class DestBeanCreator {
     return null;
   }
 
+  /**
+   * Finds the first available strategy applicable to the directive, probing the strategies only once per class and
+   * flags of directive. Plugged strategies may depend on any property of a directive, so they are not cached.
+   */
+  private BeanCreationStrategy resolveStrategy(BeanCreationDirective directive) {
+    Class<?> actualClass = directive.getActualClass();
+    if (actualClass == null) {
+      return findStrategy(directive);
+    }
+
+    BeanCreationStrategy[] byFlags = resolvedStrategies.get(actualClass);
+    if (byFlags == null) {
+      byFlags = new BeanCreationStrategy[8];
+      BeanCreationStrategy[] existing = resolvedStrategies.putIfAbsent(actualClass, byFlags);
+      if (existing != null) {
+        byFlags = existing;
+      }
+    }
+    int flags = flagsOf(directive);
+    BeanCreationStrategy result = byFlags[flags];
+    if (result == null) {
+      // racing threads resolve the same strategy, so the slot is written without synchronization
+      result = findStrategy(directive);
+      byFlags[flags] = result;
+    }
+    return result;
+  }
+
+  private BeanCreationStrategy findStrategy(BeanCreationDirective directive) {
+    for (BeanCreationStrategy strategy : availableStrategies) {
+      if (strategy.isApplicable(directive)) {
+        return strategy;
+      }
+    }
+    // the last strategy is applicable to every directive
+    return availableStrategies[availableStrategies.length - 1];
+  }
+
+  private static int flagsOf(BeanCreationDirective directive) {
+    int flags = 0;
+    if (!MappingUtils.isBlankOrNull(directive.getCreateMethod())) {
+      flags |= 1;
+    }
+    if (!MappingUtils.isBlankOrNull(directive.getFactoryName())) {
+      flags |= 2;
+    }
+    if (Boolean.TRUE.equals(directive.isSkipConstructor())) {
+      flags |= 4;
+    }
+    return flags;
+  }
+
   public void setStoredFactories(Map<String, BeanFactory> factories) {
     constructionStrategies.byFactory().setStoredFactories(factories);
   }
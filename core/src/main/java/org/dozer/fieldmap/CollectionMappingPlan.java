@@ -0,0 +1,77 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.fieldmap;
+
+import java.util.Collection;
+
+import org.dozer.util.CollectionUtils;
+import org.dozer.util.MappingUtils;
+
+/**
+ * Internal immutable plan for mapping a collection field to a given runtime destination class. Resolved once per
+ * {@link FieldMap} and destination class, so the element type hint and the kind of destination collection are not
+ * looked up again for every mapped object. Only intended for internal use.
+ */
+public final class CollectionMappingPlan {
+
+  private final FieldMap elementFieldMap;
+  private final Class<?> destCollectionType;
+  private final boolean destGenericCollection;
+  private final boolean destArray;
+  private final boolean destList;
+  private final boolean destSet;
+  private final boolean destMap;
+
+  CollectionMappingPlan(FieldMap elementFieldMap, Class<?> destCollectionType) {
+    this.elementFieldMap = elementFieldMap;
+    this.destCollectionType = destCollectionType;
+    // if they use a standard Collection we have to assume it is a List or a Set, depending on the source
+    this.destGenericCollection = Collection.class.equals(destCollectionType);
+    this.destArray = CollectionUtils.isArray(destCollectionType);
+    this.destList = CollectionUtils.isList(destCollectionType);
+    this.destSet = CollectionUtils.isSet(destCollectionType);
+    this.destMap = MappingUtils.isSupportedMap(destCollectionType);
+  }
+
+  /**
+   * @return field map to map the elements with, carrying the generic element type as destination hint when no hint
+   *         was configured
+   */
+  public FieldMap getElementFieldMap() {
+    return elementFieldMap;
+  }
+
+  public Class<?> getDestCollectionType() {
+    return destCollectionType;
+  }
+
+  public boolean isDestArray() {
+    return destArray;
+  }
+
+  public boolean isDestList(Class<?> srcFieldType) {
+    return destGenericCollection ? !CollectionUtils.isSet(srcFieldType) : destList;
+  }
+
+  public boolean isDestSet(Class<?> srcFieldType) {
+    return destGenericCollection ? CollectionUtils.isSet(srcFieldType) : destSet;
+  }
+
+  public boolean isDestMap() {
+    return destMap;
+  }
+
+}
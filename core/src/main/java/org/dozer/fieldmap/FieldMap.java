@@ -74,6 +74,9 @@ public abstract class FieldMap implements Cloneable {
 
   private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcPropertyDescriptorMap = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>(); // For Caching Purposes
   private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> destPropertyDescriptorMap = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  private ConcurrentMap<Class<?>, CollectionMappingPlan> collectionMappingPlans = new ConcurrentHashMap<Class<?>, CollectionMappingPlan>();
+  // mapping strategies by source class and destination type
+  private ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, FieldMappingStrategy>> mappingStrategies = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, FieldMappingStrategy>>();
 
   public FieldMap(ClassMap classMap, BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
     this.classMap = classMap;
@@ -152,6 +155,56 @@ public abstract class FieldMap implements Cloneable {
     return propertyDescriptor.genericType();
   }
 
+  /**
+   * Returns the plan for mapping this collection field to the runtime destination class, resolving it on first use.
+   */
+  public CollectionMappingPlan getCollectionMappingPlan(Class<?> runtimeDestClass) {
+    CollectionMappingPlan plan = collectionMappingPlans.get(runtimeDestClass);
+    if (plan == null) {
+      plan = createCollectionMappingPlan(runtimeDestClass);
+      collectionMappingPlans.putIfAbsent(runtimeDestClass, plan);
+    }
+    return plan;
+  }
+
+  private CollectionMappingPlan createCollectionMappingPlan(Class<?> runtimeDestClass) {
+    // if no hint is provided then we will use generics to determine the mapping type
+    FieldMap elementFieldMap = this;
+    if (getDestHintContainer() == null) {
+      Class<?> genericType = getGenericType(runtimeDestClass);
+      if (genericType != null) {
+        HintContainer genericHintContainer = new HintContainer(beanContainer);
+        genericHintContainer.setHintName(genericType.getName());
+        elementFieldMap = (FieldMap) clone();
+        elementFieldMap.setDestHintContainer(genericHintContainer);
+      }
+    }
+    return new CollectionMappingPlan(elementFieldMap, elementFieldMap.getDestFieldType(runtimeDestClass));
+  }
+
+  /**
+   * Returns the strategy mapping values of srcFieldClass to destFieldType, resolving it on first use.
+   *
+   * @param resolver resolves the strategy for a source class and destination type
+   */
+  public FieldMappingStrategy getMappingStrategy(Class<?> srcFieldClass, Class<?> destFieldType,
+                                                 FieldMappingStrategy.Resolver resolver) {
+    ConcurrentMap<Class<?>, FieldMappingStrategy> strategies = mappingStrategies.get(srcFieldClass);
+    if (strategies == null) {
+      strategies = new ConcurrentHashMap<Class<?>, FieldMappingStrategy>();
+      ConcurrentMap<Class<?>, FieldMappingStrategy> existing = mappingStrategies.putIfAbsent(srcFieldClass, strategies);
+      if (existing != null) {
+        strategies = existing;
+      }
+    }
+    FieldMappingStrategy strategy = strategies.get(destFieldType);
+    if (strategy == null) {
+      strategy = resolver.resolve(this, srcFieldClass, destFieldType);
+      strategies.putIfAbsent(destFieldType, strategy);
+    }
+    return strategy;
+  }
+
   public Object getDestValue(Object runtimeDestObj) {
     return getDestPropertyDescriptor(BuilderUtil.unwrapDestClassFromBuilder(runtimeDestObj)).getPropertyValue(runtimeDestObj);
   }
@@ -162,6 +215,8 @@ public abstract class FieldMap implements Cloneable {
 
   public void setDestHintContainer(HintContainer destHint) {
     this.destHintContainer = destHint;
+    collectionMappingPlans.clear();
+    mappingStrategies.clear();
   }
 
   public HintContainer getSrcHintContainer() {
@@ -311,7 +366,10 @@ public abstract class FieldMap implements Cloneable {
   public Object clone() {
     Object result = null;
     try {
-      result = super.clone();
+      FieldMap clone = (FieldMap) super.clone();
+      clone.collectionMappingPlans = new ConcurrentHashMap<Class<?>, CollectionMappingPlan>();
+      clone.mappingStrategies = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, FieldMappingStrategy>>();
+      result = clone;
     } catch (CloneNotSupportedException e) {
       MappingUtils.throwMappingException(e);
     }
@@ -385,7 +443,7 @@ public abstract class FieldMap implements Cloneable {
     }
   }
 
-  protected DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
+  public DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
     DozerPropertyDescriptor result = this.srcPropertyDescriptorMap.get(runtimeSrcClass);
     if (result == null) {
       String srcFieldMapGetMethod = getSrcFieldMapGetMethod();
@@ -401,7 +459,7 @@ public abstract class FieldMap implements Cloneable {
     return result;
   }
 
-  protected DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
+  public DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
     if (BeanBuilder.class.isAssignableFrom(runtimeDestClass)) {
       MappingUtils.throwMappingException(
               "getDestPropertyDescriptor received builder instead of concrete class - it's a bug, please post stack trace at https://github.com/DozerMapper/dozer or directly to dmitry@spikhalskiy.com ");
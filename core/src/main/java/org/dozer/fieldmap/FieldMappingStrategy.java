@@ -0,0 +1,82 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.fieldmap;
+
+/**
+ * Internal immutable decision on how a field value of a given runtime class is mapped to a destination type. Resolved
+ * once per {@link FieldMap}, source class and destination type, so that mapping a value only dispatches on its kind.
+ * Only intended for internal use.
+ */
+public final class FieldMappingStrategy {
+
+  /**
+   * The ways a non null field value can be mapped.
+   */
+  public enum Kind {
+    CUSTOM_CONVERTER,
+    COPY_BY_REFERENCE,
+    MAP,
+    PRIMITIVE,
+    // map backed field with a custom object destination, the value is converted to its own type
+    MAP_BACKED_PRIMITIVE,
+    COLLECTION,
+    ENUM,
+    CUSTOM_OBJECT
+  }
+
+  /**
+   * Resolves the strategy of a field map for a source class and destination type.
+   */
+  @FunctionalInterface
+  public interface Resolver {
+    FieldMappingStrategy resolve(FieldMap fieldMap, Class<?> srcFieldClass, Class<?> destFieldType);
+  }
+
+  private final Kind kind;
+  private final Class<?> destFieldType;
+  private final Class<?> converterClass;
+  private final boolean checkMappedFields;
+
+  public FieldMappingStrategy(Kind kind, Class<?> destFieldType, Class<?> converterClass, boolean checkMappedFields) {
+    this.kind = kind;
+    this.destFieldType = destFieldType;
+    this.converterClass = converterClass;
+    this.checkMappedFields = checkMappedFields;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return destination type after applying hints, which may differ from the requested destination type
+   */
+  public Class<?> getDestFieldType() {
+    return destFieldType;
+  }
+
+  public Class<?> getConverterClass() {
+    return converterClass;
+  }
+
+  /**
+   * @return true if an already mapped value has to be looked up before mapping, which is not the case for self mappings
+   */
+  public boolean isCheckMappedFields() {
+    return checkMappedFields;
+  }
+
+}
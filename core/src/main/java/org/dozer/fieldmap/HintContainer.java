@@ -101,6 +101,7 @@ public class HintContainer {
 
   public void setHintName(String hintName) {
     this.hintName = hintName;
+    this.hints = null;
   }
 
   @Override
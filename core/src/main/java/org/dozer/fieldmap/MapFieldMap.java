@@ -15,6 +15,9 @@
  */
 package org.dozer.fieldmap;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.dozer.classmap.ClassMap;
 import org.dozer.config.BeanContainer;
 import org.dozer.factory.DestBeanCreator;
@@ -38,6 +41,13 @@ import org.dozer.util.MappingUtils;
  */
 public class MapFieldMap extends FieldMap {
 
+  // descriptors of the fields holding the Map, by runtime class of the object holding the field
+  private ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  private ConcurrentMap<Class<?>, DozerPropertyDescriptor> destHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+  // descriptors of the key within the Map, by class of the Map
+  private ConcurrentMap<Class<?>, MapPropertyDescriptor> srcMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+  private ConcurrentMap<Class<?>, MapPropertyDescriptor> destMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+
   public MapFieldMap(ClassMap classMap, BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
     super(classMap, beanContainer, destBeanCreator, propertyDescriptorFactory);
   }
@@ -72,8 +82,7 @@ public class MapFieldMap extends FieldMap {
       propDescriptor = super.getDestPropertyDescriptor(destObj.getClass());
     } else {
       if (getDestFieldMapGetMethod() != null
-          || MappingUtils.isSupportedMap(determineActualPropertyType(getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-              destObj, true))) {
+          || MappingUtils.isSupportedMap(determineActualPropertyType(destObj, true))) {
         // Need to dig out actual destination Map object and use map property descriptor to set the value on that target object....
         PrepareTargetObjectResult result = prepareTargetObject(destObj);
         targetObject = result.targetObject;
@@ -94,18 +103,13 @@ public class MapFieldMap extends FieldMap {
     if (getSrcFieldName().equals(DozerConstants.SELF_KEYWORD)) {
       propDescriptor = super.getSrcPropertyDescriptor(srcObj.getClass());
     } else {
-      Class<?> actualType = determineActualPropertyType(getSrcFieldName(), isSrcFieldIndexed(), getSrcFieldIndex(), srcObj, false);
+      Class<?> actualType = determineActualPropertyType(srcObj, false);
       if ((getSrcFieldMapGetMethod() != null)
           || (this.getMapId() == null && MappingUtils.isSupportedMap(actualType) && getSrcHintContainer() == null)) {
         // Need to dig out actual map object by using getter on the field. Use actual map object to get the field value
         targetObject = super.getSrcFieldValue(srcObj);
 
-        String setMethod = MappingUtils.isSupportedMap(actualType) ? "put" : getSrcFieldMapSetMethod();
-        String getMethod = MappingUtils.isSupportedMap(actualType) ? "get" : getSrcFieldMapGetMethod();
-        String key = getSrcFieldKey() != null ? getSrcFieldKey() : getDestFieldName();
-
-        propDescriptor = new MapPropertyDescriptor(actualType, getSrcFieldName(), isSrcFieldIndexed(), getDestFieldIndex(),
-                setMethod, getMethod, key, getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
+        propDescriptor = getSrcMapDescriptor(actualType);
       } else {
         propDescriptor = super.getSrcPropertyDescriptor(srcObj.getClass());
       }
@@ -120,16 +124,58 @@ public class MapFieldMap extends FieldMap {
 
   }
 
+  private MapPropertyDescriptor getSrcMapDescriptor(Class<?> actualType) {
+    MapPropertyDescriptor result = srcMapDescriptors.get(actualType);
+    if (result == null) {
+      String setMethod = MappingUtils.isSupportedMap(actualType) ? "put" : getSrcFieldMapSetMethod();
+      String getMethod = MappingUtils.isSupportedMap(actualType) ? "get" : getSrcFieldMapGetMethod();
+      String key = getSrcFieldKey() != null ? getSrcFieldKey() : getDestFieldName();
+
+      MapPropertyDescriptor descriptor = new MapPropertyDescriptor(actualType, getSrcFieldName(), isSrcFieldIndexed(), getDestFieldIndex(),
+              setMethod, getMethod, key, getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
+      srcMapDescriptors.putIfAbsent(actualType, descriptor);
+      result = descriptor;
+    }
+    return result;
+  }
+
+  private MapPropertyDescriptor getDestMapDescriptor(Class<?> c) {
+    MapPropertyDescriptor result = destMapDescriptors.get(c);
+    if (result == null) {
+      MapPropertyDescriptor descriptor = new MapPropertyDescriptor(c, getDestFieldName(), isDestFieldIndexed(),
+          getDestFieldIndex(), MappingUtils.isSupportedMap(c) ? "put" : getDestFieldMapSetMethod(),
+          MappingUtils.isSupportedMap(c) ? "get" : getDestFieldMapGetMethod(), getDestFieldKey() != null ? getDestFieldKey()
+              : getSrcFieldName(), getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
+      destMapDescriptors.putIfAbsent(c, descriptor);
+      result = descriptor;
+    }
+    return result;
+  }
+
+  private DozerPropertyDescriptor getHolderDescriptor(Class<?> runtimeClass, boolean isDestObj) {
+    ConcurrentMap<Class<?>, DozerPropertyDescriptor> descriptors = isDestObj ? destHolderDescriptors : srcHolderDescriptors;
+    DozerPropertyDescriptor result = descriptors.get(runtimeClass);
+    if (result == null) {
+      String fieldName = isDestObj ? getDestFieldName() : getSrcFieldName();
+      boolean isIndexed = isDestObj ? isDestFieldIndexed() : isSrcFieldIndexed();
+      int index = isDestObj ? getDestFieldIndex() : getSrcFieldIndex();
+      DozerPropertyDescriptor descriptor;
+      if ((isDestObj && isDestFieldAccessible()) || (!isDestObj && isSrcFieldAccessible())) {
+        descriptor = new FieldPropertyDescriptor(runtimeClass, fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
+            getDestDeepIndexHintContainer(), destBeanCreator, beanContainer.getPropertyAccessorType());
+      } else {
+        descriptor = new JavaBeanPropertyDescriptor(runtimeClass, fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
+            getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
+      }
+      descriptors.putIfAbsent(runtimeClass, descriptor);
+      result = descriptor;
+    }
+    return result;
+  }
+
   private PrepareTargetObjectResult prepareTargetObject(Object destObj) {
     //  Need to dig out actual destination Map object and use map property descriptor to set the value on that target object....
-    DozerPropertyDescriptor pd;
-    if (isDestFieldAccessible()) {
-      pd = new FieldPropertyDescriptor(destObj.getClass(), getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-          getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), destBeanCreator);
-    } else {
-      pd = new JavaBeanPropertyDescriptor(destObj.getClass(), getDestFieldName(), isDestFieldIndexed(), getDestFieldIndex(),
-          getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
-    }
+    DozerPropertyDescriptor pd = getHolderDescriptor(destObj.getClass(), true);
 
     Class<?> c = pd.getPropertyType();
     Object targetObject = pd.getPropertyValue(destObj);
@@ -151,25 +197,23 @@ public class MapFieldMap extends FieldMap {
       pd.setPropertyValue(destObj, targetObject, this);
     }
 
-    return new PrepareTargetObjectResult(targetObject, new MapPropertyDescriptor(c, getDestFieldName(), isDestFieldIndexed(),
-        getDestFieldIndex(), MappingUtils.isSupportedMap(c) ? "put" : getDestFieldMapSetMethod(),
-        MappingUtils.isSupportedMap(c) ? "get" : getDestFieldMapGetMethod(), getDestFieldKey() != null ? getDestFieldKey()
-            : getSrcFieldName(), getSrcDeepIndexHintContainer(), getDestDeepIndexHintContainer(), beanContainer, destBeanCreator));
+    return new PrepareTargetObjectResult(targetObject, getDestMapDescriptor(c));
 
   }
 
-  private Class<?> determineActualPropertyType(String fieldName, boolean isIndexed, int index, Object targetObj, boolean isDestObj) {
-    // Dig out actual Map object by calling getter on top level object    
-    DozerPropertyDescriptor pd;
-    if ((isDestObj && isDestFieldAccessible()) || (!isDestObj && isSrcFieldAccessible())) {
-      pd = new FieldPropertyDescriptor(targetObj.getClass(), fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
-          getDestDeepIndexHintContainer(), destBeanCreator);
-    } else {
-      pd = new JavaBeanPropertyDescriptor(targetObj.getClass(), fieldName, isIndexed, index, getSrcDeepIndexHintContainer(),
-          getDestDeepIndexHintContainer(), beanContainer, destBeanCreator);
-    }
+  private Class<?> determineActualPropertyType(Object targetObj, boolean isDestObj) {
+    // Dig out actual Map object by calling getter on top level object
+    return getHolderDescriptor(targetObj.getClass(), isDestObj).getPropertyType();
+  }
 
-    return pd.getPropertyType();
+  @Override
+  public Object clone() {
+    MapFieldMap clone = (MapFieldMap) super.clone();
+    clone.srcHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+    clone.destHolderDescriptors = new ConcurrentHashMap<Class<?>, DozerPropertyDescriptor>();
+    clone.srcMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+    clone.destMapDescriptors = new ConcurrentHashMap<Class<?>, MapPropertyDescriptor>();
+    return clone;
   }
 
   private static class PrepareTargetObjectResult {
@@ -15,10 +15,8 @@
  */
 package org.dozer.loader;
 
-import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 
@@ -69,6 +67,8 @@ public class CustomMappingsLoader {
     // is true. The addDefaultFieldMappings will check the wildcard policy of each classmap
     classMapBuilder.addDefaultFieldMappings(customMappings, globalConfiguration);
 
+    addDefaultCustomConverters(globalConfiguration);
+
     Set<CustomConverterDescription> customConverterDescriptions = new LinkedHashSet<CustomConverterDescription>();
 
     // build up custom converter description objects
@@ -78,18 +78,8 @@ public class CustomMappingsLoader {
       }
     }    
 
-    // iterate through the classmaps and set all of the custom converters on them
-    for (Entry<String, ClassMap> entry : customMappings.getAll().entrySet()) {
-      ClassMap classMap = entry.getValue();
-      if (classMap.getCustomConverters() != null) {
-        classMap.getCustomConverters().setConverters(new ArrayList<CustomConverterDescription>(customConverterDescriptions));
-      } else {
-        classMap.setCustomConverters(new CustomConverterContainer());
-        classMap.getCustomConverters().setConverters(new ArrayList<CustomConverterDescription>(customConverterDescriptions));
-      }
-    }
-
-    addDefaultCustomConverters(globalConfiguration);
+    // class maps do not hold converters of their own, they all use the shared global ones
+    globalConfiguration.setCustomConverters(CustomConverterContainer.shared(customConverterDescriptions));
 
     return new LoadMappingsResult(customMappings, globalConfiguration);
   }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+
+import org.dozer.fieldmap.HintContainer;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Internal deep field path ("a.b[0].c") resolved once for a root class and deep index hints. Every hop holds the
+ * property descriptor and accessors of one level, so following the path neither tokenizes the field name nor
+ * introspects classes again. Only intended for internal use.
+ */
+final class DeepPropertyPath {
+
+  private final Class<?> rootClass;
+  private final HintContainer deepIndexHintContainer;
+  private final Hop[] hops;
+
+  private DeepPropertyPath(Class<?> rootClass, HintContainer deepIndexHintContainer, Hop[] hops) {
+    this.rootClass = rootClass;
+    this.deepIndexHintContainer = deepIndexHintContainer;
+    this.hops = hops;
+  }
+
+  static DeepPropertyPath compile(Class<?> rootClass, String fieldName, HintContainer deepIndexHintContainer,
+                                  PropertyAccessorType accessorType) {
+    DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(rootClass, fieldName, deepIndexHintContainer);
+    Hop[] hops = new Hop[hierarchy.length];
+    for (int i = 0; i < hierarchy.length; i++) {
+      hops[i] = new Hop(hierarchy[i].getPropDescriptor(), hierarchy[i].getIndex(), accessorType);
+    }
+    return new DeepPropertyPath(rootClass, deepIndexHintContainer, hops);
+  }
+
+  /**
+   * @param rootClass              class of the object the path starts at
+   * @param deepIndexHintContainer hints used to resolve collection hops
+   * @return true if this path was compiled for exactly this class and hints
+   */
+  boolean isCompiledFor(Class<?> rootClass, HintContainer deepIndexHintContainer) {
+    return this.rootClass == rootClass && this.deepIndexHintContainer == deepIndexHintContainer;
+  }
+
+  int length() {
+    return hops.length;
+  }
+
+  Hop hop(int i) {
+    return hops[i];
+  }
+
+  /**
+   * Follows the path from root. Indexed hops pick the element at their index.
+   *
+   * @param root object to start at
+   * @return value at the end of the path, or null if any value along the way is null
+   */
+  Object getValue(Object root) {
+    Object value = root;
+    for (Hop hop : hops) {
+      value = hop.read(value);
+      if (hop.index > -1) {
+        value = MappingUtils.getIndexedValue(value, hop.index);
+      }
+      if (value == null) {
+        break;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * One level of a deep path.
+   */
+  static final class Hop {
+
+    private final PropertyDescriptor propertyDescriptor;
+    private final int index;
+    private final PropertyReader reader;
+    private final PropertyWriter writer;
+
+    private Hop(PropertyDescriptor propertyDescriptor, int index, PropertyAccessorType accessorType) {
+      this.propertyDescriptor = propertyDescriptor;
+      this.index = index;
+      Method readMethod = propertyDescriptor.getReadMethod();
+      Method writeMethod = propertyDescriptor.getWriteMethod();
+      // one-way paths may lack either accessor
+      this.reader = readMethod != null ? accessorType.createReader(readMethod) : null;
+      this.writer = writeMethod != null ? accessorType.createWriter(writeMethod) : null;
+    }
+
+    PropertyDescriptor getPropertyDescriptor() {
+      return propertyDescriptor;
+    }
+
+    int getIndex() {
+      return index;
+    }
+
+    Object read(Object bean) {
+      if (reader == null) {
+        MappingUtils.throwMappingException("No read method found for property " + propertyDescriptor.getName()
+            + " in deep field hierarchy");
+      }
+      return reader.read(bean);
+    }
+
+    void write(Object bean, Object value) {
+      if (writer == null) {
+        MappingUtils.throwMappingException("No write method found for property " + propertyDescriptor.getName()
+            + " in deep field hierarchy");
+      }
+      writer.write(bean, value);
+    }
+  }
+
+}
@@ -42,6 +42,13 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
   public FieldPropertyDescriptor(Class<?> clazz, String fieldName, boolean isIndexed, int index,
                                  HintContainer srcDeepIndexHintContainer, HintContainer destDeepIndexHintContainer,
                                  DestBeanCreator destBeanCreator) {
+    this(clazz, fieldName, isIndexed, index, srcDeepIndexHintContainer, destDeepIndexHintContainer, destBeanCreator,
+        PropertyAccessorType.REFLECTION);
+  }
+
+  public FieldPropertyDescriptor(Class<?> clazz, String fieldName, boolean isIndexed, int index,
+                                 HintContainer srcDeepIndexHintContainer, HintContainer destDeepIndexHintContainer,
+                                 DestBeanCreator destBeanCreator, PropertyAccessorType propertyAccessorType) {
     super(clazz, fieldName, isIndexed, index, srcDeepIndexHintContainer, destDeepIndexHintContainer);
     this.destBeanCreator = destBeanCreator;
 
@@ -51,7 +58,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     Class<?> currentType = clazz;
     for (int i = 0, tokensLength = tokens.length; i < tokensLength; i++) {
       String token = tokens[i];
-      descriptorChain[i] = new ChainedPropertyDescriptor(currentType, token, isIndexed, index);
+      descriptorChain[i] = new ChainedPropertyDescriptor(currentType, token, isIndexed, index, propertyAccessorType);
       if (i < tokensLength) {
         Field field = ReflectionUtils.getFieldFromBean(currentType, tokens[i]);
         currentType = field.getType();
@@ -100,11 +107,16 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     private Field field;
     private boolean indexed;
     private int index;
+    private PropertyReader reader;
+    private PropertyWriter writer;
 
-    ChainedPropertyDescriptor(Class<?> clazz, String fieldName, boolean indexed, int index) {
+    ChainedPropertyDescriptor(Class<?> clazz, String fieldName, boolean indexed, int index,
+                              PropertyAccessorType propertyAccessorType) {
       this.indexed = indexed;
       this.index = index;
       field = ReflectionUtils.getFieldFromBean(clazz, fieldName);
+      reader = propertyAccessorType.createReader(field);
+      writer = propertyAccessorType.createWriter(field);
     }
 
     public Class<?> getPropertyType() {
@@ -112,14 +124,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     }
 
     public Object getPropertyValue(Object bean) {
-      Object result = null;
-      try {
-        result = field.get(bean);
-      } catch (IllegalArgumentException e) {
-        MappingUtils.throwMappingException(e);
-      } catch (IllegalAccessException e) {
-        MappingUtils.throwMappingException(e);
-      }
+      Object result = reader.read(bean);
       if (indexed) {
         result = MappingUtils.getIndexedValue(result, index);
       }
@@ -137,16 +142,12 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
         return;
       }
 
-      try {
-        if (indexed) {
-          Object existingValue = field.get(bean);
-          Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(), existingValue, value, index);
-          field.set(bean, collection);
-        } else {
-          field.set(bean, value);
-        }
-      } catch (IllegalAccessException e) {
-        MappingUtils.throwMappingException(e);
+      if (indexed) {
+        Object existingValue = reader.read(bean);
+        Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(), existingValue, value, index);
+        writer.write(bean, collection);
+      } else {
+        writer.write(bean, value);
       }
     }
 
@@ -49,6 +49,10 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
   private final Logger log = LoggerFactory.getLogger(GetterSetterPropertyDescriptor.class);
 
   private Class<?> propertyType;
+  private PropertyReader propertyReader;
+  private PropertyWriter propertyWriter;
+  private DeepPropertyPath srcDeepPath;
+  private DeepPropertyPath destDeepPath;
   protected final BeanContainer beanContainer;
   protected final DestBeanCreator destBeanCreator;
 
@@ -122,25 +126,12 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
   private Object getDeepSrcFieldValue(Object srcObj) {
     // follow deep field hierarchy. If any values are null along the way, then return null
-    Object parentObj = srcObj;
-    Object hierarchyValue = parentObj;
-    DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(srcObj, srcDeepIndexHintContainer);
-    int size = hierarchy.length;
-    for (int i = 0; i < size; i++) {
-      DeepHierarchyElement hierarchyElement = hierarchy[i];
-      PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-      // If any fields in the deep hierarchy are indexed, get actual value within the collection at the specified index
-      if (hierarchyElement.getIndex() > -1) {
-        hierarchyValue = MappingUtils.getIndexedValue(ReflectionUtils.invoke(pd.getReadMethod(), hierarchyValue, null),
-                hierarchyElement.getIndex());
-      } else {
-        hierarchyValue = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
-      }
-      parentObj = hierarchyValue;
-      if (hierarchyValue == null) {
-        break;
-      }
+    DeepPropertyPath path = srcDeepPath;
+    if (path == null || !path.isCompiledFor(srcObj.getClass(), srcDeepIndexHintContainer)) {
+      path = compileDeepPath(srcObj, srcDeepIndexHintContainer);
+      srcDeepPath = path;
     }
+    Object hierarchyValue = path.getValue(srcObj);
 
     // If dest field is indexed, get actual value within the collection at the specified index
     if (isIndexed) {
@@ -152,15 +143,20 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
   protected void writeDeepDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap) {
     // follow deep field hierarchy. If any values are null along the way, then create a new instance
-    DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(destObj, fieldMap.getDestDeepIndexHintContainer());
+    HintContainer deepIndexHintContainer = fieldMap.getDestDeepIndexHintContainer();
+    DeepPropertyPath path = destDeepPath;
+    if (path == null || !path.isCompiledFor(destObj.getClass(), deepIndexHintContainer)) {
+      path = compileDeepPath(destObj, deepIndexHintContainer);
+      destDeepPath = path;
+    }
     // first, iteratate through hierarchy and instantiate any objects that are null
     Object parentObj = destObj;
-    int hierarchyLength = hierarchy.length - 1;
+    int hierarchyLength = path.length() - 1;
     int hintIndex = 0;
     for (int i = 0; i < hierarchyLength; i++) {
-      DeepHierarchyElement hierarchyElement = hierarchy[i];
-      PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-      Object value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+      DeepPropertyPath.Hop hierarchyElement = path.hop(i);
+      PropertyDescriptor pd = hierarchyElement.getPropertyDescriptor();
+      Object value = hierarchyElement.read(parentObj);
       Class<?> clazz;
       Class<?> collectionEntryType;
       if (value == null) {
@@ -201,8 +197,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
           }
         }
 
-        ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[]{o});
-        value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+        hierarchyElement.write(parentObj, o);
+        value = hierarchyElement.read(parentObj);
       }
 
       //Check to see if collection needs to be resized
@@ -235,7 +231,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
           value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(), value, destBeanCreator.create(collectionEntryType), hierarchyElement.getIndex());
           //value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(), value, DestBeanCreator.create(collectionEntryType), hierarchyElement.getIndex());
-          ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[]{value});
+          hierarchyElement.write(parentObj, value);
         }
       }
 
@@ -248,7 +244,8 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
       }
     }
     // second, set the very last field in the deep hierarchy
-    PropertyDescriptor pd = hierarchy[hierarchy.length - 1].getPropDescriptor();
+    DeepPropertyPath.Hop lastElement = path.hop(hierarchyLength);
+    PropertyDescriptor pd = lastElement.getPropertyDescriptor();
 
     Class<?> type;
     // For one-way mappings there could be no read method
@@ -260,18 +257,17 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     if (!type.isPrimitive() || destFieldValue != null) {
       if (!isIndexed) {
-        Method method = null;
         if (!isCustomSetMethod()) {
-          method = pd.getWriteMethod();
+          lastElement.write(parentObj, destFieldValue);
         } else {
+          Method method = null;
           try {
             method = ReflectionUtils.findAMethod(parentObj.getClass(), getSetMethodName(), beanContainer);
           } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
           }
+          ReflectionUtils.invoke(method, parentObj, new Object[]{destFieldValue});
         }
-
-        ReflectionUtils.invoke(method, parentObj, new Object[]{destFieldValue});
       } else {
         writeIndexedValue(parentObj, destFieldValue);
       }
@@ -281,7 +277,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
   protected Object invokeReadMethod(Object target) {
     Object result = null;
     try {
-      result = ReflectionUtils.invoke(getReadMethod(), target, null);
+      result = getPropertyReader().read(target);
     } catch (NoSuchMethodException e) {
       MappingUtils.throwMappingException(e);
     }
@@ -290,14 +286,48 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
   protected void invokeWriteMethod(Object target, Object value) {
     try {
-      ReflectionUtils.invoke(getWriteMethod(), target, new Object[]{value});
+      getPropertyWriter().write(target, value);
     } catch (NoSuchMethodException e) {
       MappingUtils.throwMappingException(e);
     }
   }
 
-  private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
-    return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
+  /**
+   * Resolves the read method into an accessor of the configured {@link PropertyAccessorType} once and reuses it.
+   *
+   * @return reader for the read method
+   * @throws NoSuchMethodException if there is no read method
+   */
+  public PropertyReader getPropertyReader() throws NoSuchMethodException {
+    PropertyReader result = propertyReader;
+    if (result == null) {
+      result = getPropertyAccessorType().createReader(getReadMethod());
+      propertyReader = result;
+    }
+    return result;
+  }
+
+  /**
+   * Resolves the write method into an accessor of the configured {@link PropertyAccessorType} once and reuses it.
+   *
+   * @return writer for the write method
+   * @throws NoSuchMethodException if there is no write method
+   */
+  public PropertyWriter getPropertyWriter() throws NoSuchMethodException {
+    PropertyWriter result = propertyWriter;
+    if (result == null) {
+      result = getPropertyAccessorType().createWriter(getWriteMethod());
+      propertyWriter = result;
+    }
+    return result;
+  }
+
+  private PropertyAccessorType getPropertyAccessorType() {
+    return beanContainer != null ? beanContainer.getPropertyAccessorType() : PropertyAccessorType.REFLECTION;
+  }
+
+  private DeepPropertyPath compileDeepPath(Object obj, HintContainer deepIndexHintContainer) {
+    return DeepPropertyPath.compile(obj.getClass(), fieldName, deepIndexHintContainer, getPropertyAccessorType());
   }
 
   private void writeIndexedValue(Object destObj, Object destFieldValue) {
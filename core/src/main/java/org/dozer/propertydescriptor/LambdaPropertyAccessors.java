@@ -0,0 +1,368 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static org.dozer.propertydescriptor.MethodHandlePropertyAccessors.invocationException;
+
+/**
+ * Internal property accessors spun with {@link LambdaMetafactory}. The generated classes invoke the getter or setter
+ * directly, so once JIT compiled a call costs the same as a hand written one. Only intended for internal use.
+ */
+final class LambdaPropertyAccessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private LambdaPropertyAccessors() {
+
+  }
+
+  /**
+   * @return reader or null if the method can not be bound by a generated class
+   */
+  @SuppressWarnings("unchecked")
+  static PropertyReader reader(Method readMethod) {
+    if (!isSupported(readMethod) || !isVisible(readMethod.getReturnType())) {
+      return null;
+    }
+
+    try {
+      Class<?> type = readMethod.getReturnType();
+      if (type == int.class) {
+        return new IntReader((ToIntFunction<Object>) spin(ToIntFunction.class, "applyAsInt",
+            MethodType.methodType(int.class, Object.class), readMethod, false));
+      } else if (type == long.class) {
+        return new LongReader((ToLongFunction<Object>) spin(ToLongFunction.class, "applyAsLong",
+            MethodType.methodType(long.class, Object.class), readMethod, false));
+      } else if (type == double.class) {
+        return new DoubleReader((ToDoubleFunction<Object>) spin(ToDoubleFunction.class, "applyAsDouble",
+            MethodType.methodType(double.class, Object.class), readMethod, false));
+      } else if (type == boolean.class) {
+        return new BooleanReader((Predicate<Object>) spin(Predicate.class, "test",
+            MethodType.methodType(boolean.class, Object.class), readMethod, false));
+      }
+      return new ObjectReader((Function<Object, Object>) spin(Function.class, "apply",
+          MethodType.methodType(Object.class, Object.class), readMethod, false));
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return writer or null if the method can not be bound by a generated class
+   */
+  @SuppressWarnings("unchecked")
+  static PropertyWriter writer(Method writeMethod) {
+    if (!isSupported(writeMethod) || writeMethod.getParameterTypes().length != 1 || !isVisible(writeMethod.getParameterTypes()[0])) {
+      return null;
+    }
+
+    try {
+      Class<?> type = writeMethod.getParameterTypes()[0];
+      if (type == int.class) {
+        return new IntWriter((ObjIntConsumer<Object>) spin(ObjIntConsumer.class, "accept",
+            MethodType.methodType(void.class, Object.class, int.class), writeMethod, true));
+      } else if (type == long.class) {
+        return new LongWriter((ObjLongConsumer<Object>) spin(ObjLongConsumer.class, "accept",
+            MethodType.methodType(void.class, Object.class, long.class), writeMethod, true));
+      } else if (type == double.class) {
+        return new DoubleWriter((ObjDoubleConsumer<Object>) spin(ObjDoubleConsumer.class, "accept",
+            MethodType.methodType(void.class, Object.class, double.class), writeMethod, true));
+      } else if (type == boolean.class) {
+        return new BooleanWriter((ObjBooleanConsumer) spin(ObjBooleanConsumer.class, "accept",
+            MethodType.methodType(void.class, Object.class, boolean.class), writeMethod, true));
+      }
+      return new ObjectWriter((BiConsumer<Object, Object>) spin(BiConsumer.class, "accept",
+          MethodType.methodType(void.class, Object.class, Object.class), writeMethod, true));
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  /**
+   * Generated classes are defined in the class loader of Dozer and link against the accessor directly, so the
+   * accessor has to be public and its declaring class and value type resolvable from there. This is not the case for beans living in
+   * child class loaders (OSGi, application servers), those are left to method handles.
+   */
+  private static boolean isSupported(Method method) {
+    return Modifier.isPublic(method.getModifiers())
+        && !Modifier.isStatic(method.getModifiers())
+        && !method.isBridge()
+        && isVisible(method.getDeclaringClass());
+  }
+
+  private static boolean isVisible(Class<?> type) {
+    if (type.isPrimitive()) {
+      return true;
+    }
+    if (type.isArray()) {
+      return isVisible(type.getComponentType());
+    }
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return false;
+    }
+    try {
+      return Class.forName(type.getName(), false, LambdaPropertyAccessors.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  private static Object spin(Class<?> interfaceType, String methodName, MethodType erasedType, Method method,
+                             boolean discardResult) throws Throwable {
+    MethodHandle implementation = LOOKUP.unreflect(method);
+    MethodType instantiatedType = discardResult ? implementation.type().changeReturnType(void.class) : implementation.type();
+    CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(interfaceType), erasedType,
+        implementation, instantiatedType);
+    return callSite.getTarget().invoke();
+  }
+
+  /**
+   * Boolean counterpart of {@link ObjIntConsumer}, which is missing in java.util.function.
+   */
+  interface ObjBooleanConsumer {
+
+    void accept(Object target, boolean value);
+
+  }
+
+  private static final class ObjectReader implements PropertyReader {
+
+    private final Function<Object, Object> function;
+
+    private ObjectReader(Function<Object, Object> function) {
+      this.function = function;
+    }
+
+    public Object read(Object bean) {
+      try {
+        return function.apply(bean);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class IntReader implements PropertyReader {
+
+    private final ToIntFunction<Object> function;
+
+    private IntReader(ToIntFunction<Object> function) {
+      this.function = function;
+    }
+
+    public Object read(Object bean) {
+      return readInt(bean);
+    }
+
+    @Override
+    public int readInt(Object bean) {
+      try {
+        return function.applyAsInt(bean);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class LongReader implements PropertyReader {
+
+    private final ToLongFunction<Object> function;
+
+    private LongReader(ToLongFunction<Object> function) {
+      this.function = function;
+    }
+
+    public Object read(Object bean) {
+      return readLong(bean);
+    }
+
+    @Override
+    public long readLong(Object bean) {
+      try {
+        return function.applyAsLong(bean);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class DoubleReader implements PropertyReader {
+
+    private final ToDoubleFunction<Object> function;
+
+    private DoubleReader(ToDoubleFunction<Object> function) {
+      this.function = function;
+    }
+
+    public Object read(Object bean) {
+      return readDouble(bean);
+    }
+
+    @Override
+    public double readDouble(Object bean) {
+      try {
+        return function.applyAsDouble(bean);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class BooleanReader implements PropertyReader {
+
+    private final Predicate<Object> function;
+
+    private BooleanReader(Predicate<Object> function) {
+      this.function = function;
+    }
+
+    public Object read(Object bean) {
+      return readBoolean(bean);
+    }
+
+    @Override
+    public boolean readBoolean(Object bean) {
+      try {
+        return function.test(bean);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class ObjectWriter implements PropertyWriter {
+
+    private final BiConsumer<Object, Object> consumer;
+
+    private ObjectWriter(BiConsumer<Object, Object> consumer) {
+      this.consumer = consumer;
+    }
+
+    public void write(Object bean, Object value) {
+      try {
+        consumer.accept(bean, value);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class IntWriter implements PropertyWriter {
+
+    private final ObjIntConsumer<Object> consumer;
+
+    private IntWriter(ObjIntConsumer<Object> consumer) {
+      this.consumer = consumer;
+    }
+
+    public void write(Object bean, Object value) {
+      writeInt(bean, (Integer) value);
+    }
+
+    @Override
+    public void writeInt(Object bean, int value) {
+      try {
+        consumer.accept(bean, value);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class LongWriter implements PropertyWriter {
+
+    private final ObjLongConsumer<Object> consumer;
+
+    private LongWriter(ObjLongConsumer<Object> consumer) {
+      this.consumer = consumer;
+    }
+
+    public void write(Object bean, Object value) {
+      writeLong(bean, (Long) value);
+    }
+
+    @Override
+    public void writeLong(Object bean, long value) {
+      try {
+        consumer.accept(bean, value);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class DoubleWriter implements PropertyWriter {
+
+    private final ObjDoubleConsumer<Object> consumer;
+
+    private DoubleWriter(ObjDoubleConsumer<Object> consumer) {
+      this.consumer = consumer;
+    }
+
+    public void write(Object bean, Object value) {
+      writeDouble(bean, (Double) value);
+    }
+
+    @Override
+    public void writeDouble(Object bean, double value) {
+      try {
+        consumer.accept(bean, value);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+  private static final class BooleanWriter implements PropertyWriter {
+
+    private final ObjBooleanConsumer consumer;
+
+    private BooleanWriter(ObjBooleanConsumer consumer) {
+      this.consumer = consumer;
+    }
+
+    public void write(Object bean, Object value) {
+      writeBoolean(bean, (Boolean) value);
+    }
+
+    @Override
+    public void writeBoolean(Object bean, boolean value) {
+      try {
+        consumer.accept(bean, value);
+      } catch (Throwable e) {
+        throw invocationException(e);
+      }
+    }
+  }
+
+}
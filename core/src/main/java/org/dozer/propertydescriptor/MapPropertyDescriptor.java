@@ -17,6 +17,7 @@ package org.dozer.propertydescriptor;
 
 import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.dozer.MappingException;
 import org.dozer.config.BeanContainer;
@@ -47,6 +48,8 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
   private final String setMethodName;
   private final String getMethodName;
   private final String key;
+  // java.util.Map get/put are called directly instead of looking up and invoking the methods
+  private final boolean plainMap;
 
   private SoftReference<Method> writeMethod;
   private SoftReference<Method> readMethod;
@@ -58,6 +61,7 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
     this.setMethodName = setMethod;
     this.getMethodName = getMethod;
     this.key = key;
+    this.plainMap = MappingUtils.isSupportedMap(clazz) && "put".equals(setMethod) && "get".equals(getMethod);
   }
 
   @Override
@@ -127,10 +131,19 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   protected void invokeWriteMethod(Object target, Object value) {
     if (key == null) {
       throw new MappingException("key must be specified");
     }
+    if (plainMap && target instanceof Map) {
+      try {
+        ((Map<Object, Object>) target).put(key, value);
+      } catch (RuntimeException e) {
+        throw MethodHandlePropertyAccessors.invocationException(e);
+      }
+      return;
+    }
     try {
       ReflectionUtils.invoke(getWriteMethod(), target, new Object[]{key, value});
     } catch (NoSuchMethodException e) {
@@ -144,6 +157,14 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
       throw new MappingException("key must be specified");
     }
     Object result = null;
+    if (plainMap && target instanceof Map) {
+      try {
+        result = ((Map<?, ?>) target).get(key);
+      } catch (RuntimeException e) {
+        throw MethodHandlePropertyAccessors.invocationException(e);
+      }
+      return result;
+    }
     try {
       result = ReflectionUtils.invoke(getReadMethod(), target, new Object[]{key});
     } catch (NoSuchMethodException e) {
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.dozer.MappingException;
+
+/**
+ * Internal property accessors backed by method handles. Handles are adapted once to an erased signature, so each read or
+ * write is a single invokeExact call without argument arrays. Only intended for internal use.
+ */
+final class MethodHandlePropertyAccessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private MethodHandlePropertyAccessors() {
+
+  }
+
+  /**
+   * @return reader or null if no method handle could be obtained for the method
+   */
+  static PropertyReader reader(Method readMethod) {
+    try {
+      readMethod.setAccessible(true);
+      return reader(LOOKUP.unreflect(readMethod), true);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return writer or null if no method handle could be obtained for the method
+   */
+  static PropertyWriter writer(Method writeMethod) {
+    try {
+      writeMethod.setAccessible(true);
+      return writer(LOOKUP.unreflect(writeMethod), true);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return reader or null if no method handle could be obtained for the field
+   */
+  static PropertyReader reader(Field field) {
+    try {
+      field.setAccessible(true);
+      return reader(LOOKUP.unreflectGetter(field), false);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return writer or null if no method handle could be obtained for the field, e.g. if it is final
+   */
+  static PropertyWriter writer(Field field) {
+    try {
+      field.setAccessible(true);
+      return writer(LOOKUP.unreflectSetter(field), false);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Wraps exceptions thrown by an invoked accessor the same way {@link org.dozer.util.ReflectionUtils#invoke} does, so
+   * error handling policies see the same exception chain for every accessor type.
+   */
+  static RuntimeException invocationException(Throwable e) {
+    return new MappingException(new InvocationTargetException(e));
+  }
+
+  private static RuntimeException failure(Throwable e, boolean invocation) {
+    if (invocation) {
+      return invocationException(e);
+    }
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    return new MappingException(e);
+  }
+
+  private static PropertyReader reader(MethodHandle handle, boolean invocation) {
+    Class<?> type = handle.type().returnType();
+    if (type == int.class) {
+      return new IntReader(handle.asType(MethodType.methodType(int.class, Object.class)), invocation);
+    } else if (type == long.class) {
+      return new LongReader(handle.asType(MethodType.methodType(long.class, Object.class)), invocation);
+    } else if (type == double.class) {
+      return new DoubleReader(handle.asType(MethodType.methodType(double.class, Object.class)), invocation);
+    } else if (type == boolean.class) {
+      return new BooleanReader(handle.asType(MethodType.methodType(boolean.class, Object.class)), invocation);
+    }
+    return new ObjectReader(handle.asType(MethodType.methodType(Object.class, Object.class)), invocation);
+  }
+
+  private static PropertyWriter writer(MethodHandle handle, boolean invocation) {
+    Class<?> type = handle.type().parameterType(1);
+    if (type == int.class) {
+      return new IntWriter(handle.asType(MethodType.methodType(void.class, Object.class, int.class)), invocation);
+    } else if (type == long.class) {
+      return new LongWriter(handle.asType(MethodType.methodType(void.class, Object.class, long.class)), invocation);
+    } else if (type == double.class) {
+      return new DoubleWriter(handle.asType(MethodType.methodType(void.class, Object.class, double.class)), invocation);
+    } else if (type == boolean.class) {
+      return new BooleanWriter(handle.asType(MethodType.methodType(void.class, Object.class, boolean.class)), invocation);
+    }
+    return new ObjectWriter(handle.asType(MethodType.methodType(void.class, Object.class, Object.class)), invocation);
+  }
+
+  private static final class ObjectReader implements PropertyReader {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private ObjectReader(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public Object read(Object bean) {
+      try {
+        return (Object) handle.invokeExact(bean);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class IntReader implements PropertyReader {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private IntReader(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public Object read(Object bean) {
+      return readInt(bean);
+    }
+
+    @Override
+    public int readInt(Object bean) {
+      try {
+        return (int) handle.invokeExact(bean);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class LongReader implements PropertyReader {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private LongReader(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public Object read(Object bean) {
+      return readLong(bean);
+    }
+
+    @Override
+    public long readLong(Object bean) {
+      try {
+        return (long) handle.invokeExact(bean);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class DoubleReader implements PropertyReader {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private DoubleReader(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public Object read(Object bean) {
+      return readDouble(bean);
+    }
+
+    @Override
+    public double readDouble(Object bean) {
+      try {
+        return (double) handle.invokeExact(bean);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class BooleanReader implements PropertyReader {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private BooleanReader(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public Object read(Object bean) {
+      return readBoolean(bean);
+    }
+
+    @Override
+    public boolean readBoolean(Object bean) {
+      try {
+        return (boolean) handle.invokeExact(bean);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class ObjectWriter implements PropertyWriter {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private ObjectWriter(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public void write(Object bean, Object value) {
+      try {
+        handle.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class IntWriter implements PropertyWriter {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private IntWriter(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public void write(Object bean, Object value) {
+      writeInt(bean, (Integer) value);
+    }
+
+    @Override
+    public void writeInt(Object bean, int value) {
+      try {
+        handle.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class LongWriter implements PropertyWriter {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private LongWriter(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public void write(Object bean, Object value) {
+      writeLong(bean, (Long) value);
+    }
+
+    @Override
+    public void writeLong(Object bean, long value) {
+      try {
+        handle.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class DoubleWriter implements PropertyWriter {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private DoubleWriter(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public void write(Object bean, Object value) {
+      writeDouble(bean, (Double) value);
+    }
+
+    @Override
+    public void writeDouble(Object bean, double value) {
+      try {
+        handle.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+  private static final class BooleanWriter implements PropertyWriter {
+
+    private final MethodHandle handle;
+    private final boolean invocation;
+
+    private BooleanWriter(MethodHandle handle, boolean invocation) {
+      this.handle = handle;
+      this.invocation = invocation;
+    }
+
+    public void write(Object bean, Object value) {
+      writeBoolean(bean, (Boolean) value);
+    }
+
+    @Override
+    public void writeBoolean(Object bean, boolean value) {
+      try {
+        handle.invokeExact(bean, value);
+      } catch (Throwable e) {
+        throw failure(e, invocation);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.dozer.MappingException;
+
+/**
+ * Strategies used by property descriptors to invoke getters, setters and fields. Selected with the
+ * {@link org.dozer.config.SettingsKeys#PROPERTY_ACCESSOR} setting. A strategy that can not handle a member falls back to
+ * the next simpler one, down to plain reflection.
+ */
+public enum PropertyAccessorType {
+
+  /**
+   * {@link Method#invoke(Object, Object...)} and {@link Field#get(Object)}/{@link Field#set(Object, Object)}.
+   */
+  REFLECTION("reflection") {
+    @Override
+    public PropertyReader createReader(Method readMethod) {
+      return ReflectionPropertyAccessors.reader(readMethod);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Method writeMethod) {
+      return ReflectionPropertyAccessors.writer(writeMethod);
+    }
+
+    @Override
+    public PropertyReader createReader(Field field) {
+      return ReflectionPropertyAccessors.reader(field);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Field field) {
+      return ReflectionPropertyAccessors.writer(field);
+    }
+  },
+
+  /**
+   * {@link java.lang.invoke.MethodHandle} resolved once per member.
+   */
+  METHOD_HANDLE("method-handle") {
+    @Override
+    public PropertyReader createReader(Method readMethod) {
+      PropertyReader result = MethodHandlePropertyAccessors.reader(readMethod);
+      return result != null ? result : REFLECTION.createReader(readMethod);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Method writeMethod) {
+      PropertyWriter fallback = REFLECTION.createWriter(writeMethod);
+      PropertyWriter result = MethodHandlePropertyAccessors.writer(writeMethod);
+      return result != null ? new TypeCheckedPropertyWriter(result, fallback, writeMethod.getParameterTypes()[0]) : fallback;
+    }
+
+    @Override
+    public PropertyReader createReader(Field field) {
+      PropertyReader result = MethodHandlePropertyAccessors.reader(field);
+      return result != null ? result : REFLECTION.createReader(field);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Field field) {
+      PropertyWriter fallback = REFLECTION.createWriter(field);
+      PropertyWriter result = MethodHandlePropertyAccessors.writer(field);
+      return result != null ? new TypeCheckedPropertyWriter(result, fallback, field.getType()) : fallback;
+    }
+  },
+
+  /**
+   * Functional interface implementations spun with {@link java.lang.invoke.LambdaMetafactory}. Fields can not be
+   * bound this way and use method handles.
+   */
+  LAMBDA("lambda") {
+    @Override
+    public PropertyReader createReader(Method readMethod) {
+      PropertyReader result = LambdaPropertyAccessors.reader(readMethod);
+      return result != null ? result : METHOD_HANDLE.createReader(readMethod);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Method writeMethod) {
+      PropertyWriter result = LambdaPropertyAccessors.writer(writeMethod);
+      if (result == null) {
+        return METHOD_HANDLE.createWriter(writeMethod);
+      }
+      return new TypeCheckedPropertyWriter(result, REFLECTION.createWriter(writeMethod), writeMethod.getParameterTypes()[0]);
+    }
+
+    @Override
+    public PropertyReader createReader(Field field) {
+      return METHOD_HANDLE.createReader(field);
+    }
+
+    @Override
+    public PropertyWriter createWriter(Field field) {
+      return METHOD_HANDLE.createWriter(field);
+    }
+  };
+
+  private final String value;
+
+  PropertyAccessorType(String value) {
+    this.value = value;
+  }
+
+  public abstract PropertyReader createReader(Method readMethod);
+
+  public abstract PropertyWriter createWriter(Method writeMethod);
+
+  public abstract PropertyReader createReader(Field field);
+
+  public abstract PropertyWriter createWriter(Field field);
+
+  public String getValue() {
+    return value;
+  }
+
+  public static PropertyAccessorType fromValue(String value) {
+    for (PropertyAccessorType type : values()) {
+      if (type.value.equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    throw new MappingException("Unknown property accessor: " + value + ". Supported values are reflection, method-handle and lambda");
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+/**
+ * Internal contract for reading a property value. A reader is resolved once per property descriptor and reused for
+ * every subsequent read. The primitive specific methods let implementations return values without boxing them. Only
+ * intended for internal use.
+ *
+ * @see PropertyAccessorType
+ */
+public interface PropertyReader {
+
+  Object read(Object bean);
+
+  default int readInt(Object bean) {
+    return (Integer) read(bean);
+  }
+
+  default long readLong(Object bean) {
+    return (Long) read(bean);
+  }
+
+  default double readDouble(Object bean) {
+    return (Double) read(bean);
+  }
+
+  default boolean readBoolean(Object bean) {
+    return (Boolean) read(bean);
+  }
+
+}
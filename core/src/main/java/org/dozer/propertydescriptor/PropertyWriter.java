@@ -0,0 +1,45 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+/**
+ * Internal contract for writing a property value. A writer is resolved once per property descriptor and reused for
+ * every subsequent write. The primitive specific methods let implementations accept values without boxing them. Only
+ * intended for internal use.
+ *
+ * @see PropertyAccessorType
+ */
+public interface PropertyWriter {
+
+  void write(Object bean, Object value);
+
+  default void writeInt(Object bean, int value) {
+    write(bean, value);
+  }
+
+  default void writeLong(Object bean, long value) {
+    write(bean, value);
+  }
+
+  default void writeDouble(Object bean, double value) {
+    write(bean, value);
+  }
+
+  default void writeBoolean(Object bean, boolean value) {
+    write(bean, value);
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Internal property accessors backed by plain reflection. Only intended for internal use.
+ */
+final class ReflectionPropertyAccessors {
+
+  private ReflectionPropertyAccessors() {
+
+  }
+
+  static PropertyReader reader(Method readMethod) {
+    return new MethodReader(readMethod);
+  }
+
+  static PropertyWriter writer(Method writeMethod) {
+    return new MethodWriter(writeMethod);
+  }
+
+  static PropertyReader reader(Field field) {
+    return new FieldReader(field);
+  }
+
+  static PropertyWriter writer(Field field) {
+    return new FieldWriter(field);
+  }
+
+  private static final class MethodReader implements PropertyReader {
+
+    private final Method method;
+
+    private MethodReader(Method method) {
+      this.method = method;
+    }
+
+    public Object read(Object bean) {
+      return ReflectionUtils.invoke(method, bean, null);
+    }
+  }
+
+  private static final class MethodWriter implements PropertyWriter {
+
+    private final Method method;
+
+    private MethodWriter(Method method) {
+      this.method = method;
+    }
+
+    public void write(Object bean, Object value) {
+      ReflectionUtils.invoke(method, bean, new Object[]{value});
+    }
+  }
+
+  private static final class FieldReader implements PropertyReader {
+
+    private final Field field;
+
+    private FieldReader(Field field) {
+      this.field = field;
+    }
+
+    public Object read(Object bean) {
+      Object result = null;
+      try {
+        result = field.get(bean);
+      } catch (IllegalArgumentException e) {
+        MappingUtils.throwMappingException(e);
+      } catch (IllegalAccessException e) {
+        MappingUtils.throwMappingException(e);
+      }
+      return result;
+    }
+  }
+
+  private static final class FieldWriter implements PropertyWriter {
+
+    private final Field field;
+
+    private FieldWriter(Field field) {
+      this.field = field;
+    }
+
+    public void write(Object bean, Object value) {
+      try {
+        field.set(bean, value);
+      } catch (IllegalAccessException e) {
+        MappingUtils.throwMappingException(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal writer that hands values not matching the property type over to a reflective writer. Method handles and
+ * generated accessors would fail with a ClassCastException that looks like it was thrown by the setter itself, while
+ * reflection reports the mismatch the way callers already expect. Only intended for internal use.
+ */
+final class TypeCheckedPropertyWriter implements PropertyWriter {
+
+  private final PropertyWriter delegate;
+  private final PropertyWriter fallback;
+  private final Class<?> valueType;
+  private final boolean primitive;
+
+  TypeCheckedPropertyWriter(PropertyWriter delegate, PropertyWriter fallback, Class<?> propertyType) {
+    this.delegate = delegate;
+    this.fallback = fallback;
+    this.valueType = ClassUtils.primitiveToWrapper(propertyType);
+    this.primitive = propertyType.isPrimitive();
+  }
+
+  public void write(Object bean, Object value) {
+    if (value == null ? primitive : !valueType.isInstance(value)) {
+      fallback.write(bean, value);
+    } else {
+      delegate.write(bean, value);
+    }
+  }
+
+  @Override
+  public void writeInt(Object bean, int value) {
+    delegate.writeInt(bean, value);
+  }
+
+  @Override
+  public void writeLong(Object bean, long value) {
+    delegate.writeLong(bean, value);
+  }
+
+  @Override
+  public void writeDouble(Object bean, double value) {
+    delegate.writeDouble(bean, value);
+  }
+
+  @Override
+  public void writeBoolean(Object bean, boolean value) {
+    delegate.writeBoolean(bean, value);
+  }
+
+}
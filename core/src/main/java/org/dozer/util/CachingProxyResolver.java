@@ -0,0 +1,84 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+/**
+ * Proxy resolver remembering per class whether it is a proxy and what its real class is, so the wrapped resolver
+ * inspects every class only once. Objects are only unenhanced by the wrapped resolver if their class is a proxy. Only
+ * intended for internal use.
+ */
+public final class CachingProxyResolver implements DozerProxyResolver {
+
+  private final DozerProxyResolver delegate;
+  private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+    @Override
+    protected Resolution computeValue(Class<?> type) {
+      return new Resolution(delegate.isProxy(type), delegate.getRealClass(type));
+    }
+  };
+
+  private CachingProxyResolver(DozerProxyResolver delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Wraps the resolver, unless it is already caching or never reports proxies.
+   *
+   * @param proxyResolver resolver to wrap
+   * @return caching resolver delegating to proxyResolver
+   */
+  public static DozerProxyResolver wrap(DozerProxyResolver proxyResolver) {
+    if (proxyResolver == null || proxyResolver instanceof CachingProxyResolver
+        || proxyResolver.getClass() == NoProxyResolver.class) {
+      return proxyResolver;
+    }
+    return new CachingProxyResolver(proxyResolver);
+  }
+
+  public DozerProxyResolver getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public boolean isProxy(Class<?> clazz) {
+    return resolutions.get(clazz).proxy;
+  }
+
+  @Override
+  public <T> T unenhanceObject(T object) {
+    if (object == null || !resolutions.get(object.getClass()).proxy) {
+      return object;
+    }
+    return delegate.unenhanceObject(object);
+  }
+
+  @Override
+  public Class<?> getRealClass(Class<?> clazz) {
+    return resolutions.get(clazz).realClass;
+  }
+
+  private static final class Resolution {
+
+    private final boolean proxy;
+    private final Class<?> realClass;
+
+    private Resolution(boolean proxy, Class<?> realClass) {
+      this.proxy = proxy;
+      this.realClass = realClass;
+    }
+  }
+
+}
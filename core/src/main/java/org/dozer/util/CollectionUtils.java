@@ -16,7 +16,6 @@
 package org.dozer.util;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -108,14 +107,7 @@ public final class CollectionUtils {
   }
 
   public static List<Object> convertPrimitiveArrayToList(Object primitiveArray) {
-    int length = Array.getLength(primitiveArray);
-    List<Object> result = new ArrayList<Object>(length);
-
-    // wrap and copy elements
-    for (int i = 0; i < length; i++) {
-      result.add(Array.get(primitiveArray, i));
-    }
-    return result;
+    return PrimitiveArrayUtils.toList(primitiveArray);
   }
 
 
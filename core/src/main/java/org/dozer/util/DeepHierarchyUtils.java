@@ -36,11 +36,25 @@ public final class DeepHierarchyUtils {
     // Copy-paste from GetterSetterPropertyDescriptor
     public static Object getDeepFieldValue(Object srcObj, String fieldName, boolean isIndexed, int index, HintContainer srcDeepIndexHintContainer,
                                            BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
+        DozerPropertyDescriptor[] hierarchy = getDeepFieldHierarchy(srcObj.getClass(), fieldName, srcDeepIndexHintContainer, beanContainer,
+                destBeanCreator, propertyDescriptorFactory);
+        return getDeepFieldValue(srcObj, hierarchy, isIndexed, index);
+    }
+
+    /**
+     * Follows a hierarchy resolved once by {@link #getDeepFieldHierarchy}, so callers reading the same deep field
+     * repeatedly do not tokenize the field name and look up property descriptors for every value.
+     *
+     * @param srcObj    object to start at
+     * @param hierarchy property descriptors of the deep field, one per level
+     * @param isIndexed whether the deep field is indexed
+     * @param index     index of the deep field
+     * @return value of the deep field, or null if any value along the way is null
+     */
+    public static Object getDeepFieldValue(Object srcObj, DozerPropertyDescriptor[] hierarchy, boolean isIndexed, int index) {
         // follow deep field hierarchy. If any values are null along the way, then return null
         Object parentObj = srcObj;
         Object hierarchyValue = parentObj;
-        DozerPropertyDescriptor[] hierarchy = getDeepFieldHierarchy(srcObj.getClass(), fieldName, srcDeepIndexHintContainer, beanContainer,
-                destBeanCreator, propertyDescriptorFactory);
 
         for (DozerPropertyDescriptor hierarchyElement : hierarchy) {
             hierarchyValue = hierarchyElement.getPropertyValue(parentObj);
@@ -71,7 +85,7 @@ public final class DeepHierarchyUtils {
         return hierarchy[hierarchy.length - 1].genericType();
     }
 
-    private static DozerPropertyDescriptor[] getDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer,
+    public static DozerPropertyDescriptor[] getDeepFieldHierarchy(Class<?> parentClass, String field, HintContainer deepIndexHintContainer,
                                                                    BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
         if (!MappingUtils.isDeepMapping(field)) {
             MappingUtils.throwMappingException("Field does not contain deep field delimiter");
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Internal class finding the first indexed element equal to a value, as {@link List#indexOf(Object)} would, but in
+ * constant time. Used to merge non-cumulative collections. Elements of classes overriding equals but not hashCode can
+ * not be hashed, once one of them is indexed or looked up, the index falls back to a linear search. Only intended for
+ * internal use.
+ */
+public final class EqualityIndex {
+
+  private static final Object NOT_FOUND = new Object();
+
+  // first indexed element equal to the key, in the order the elements were indexed
+  private final Map<Object, Object> firstEqual = new LinkedHashMap<Object, Object>();
+  private final Set<Class<?>> hashableClasses = new HashSet<Class<?>>();
+  // indexed elements in order, only set when falling back to linear search
+  private List<Object> linearElements;
+
+  public EqualityIndex(Collection<?> elements) {
+    for (Object element : elements) {
+      add(element);
+    }
+  }
+
+  /**
+   * Indexes the element, unless an equal element is already indexed. Elements which were changed after being indexed
+   * have to be indexed again.
+   *
+   * @param element element to index
+   */
+  public void add(Object element) {
+    if (linearElements == null && !isHashable(element)) {
+      linearElements = new ArrayList<Object>(firstEqual.values());
+    }
+    if (linearElements != null) {
+      linearElements.add(element);
+    } else if (!firstEqual.containsKey(element)) {
+      firstEqual.put(element, element);
+    }
+  }
+
+  public boolean contains(Object value) {
+    return find(value) != NOT_FOUND;
+  }
+
+  /**
+   * @param value value to look up
+   * @return first indexed element equal to value, or null if there is none
+   */
+  public Object get(Object value) {
+    Object element = find(value);
+    return element != NOT_FOUND ? element : null;
+  }
+
+  private Object find(Object value) {
+    if (linearElements == null && !isHashable(value)) {
+      linearElements = new ArrayList<Object>(firstEqual.values());
+    }
+    if (linearElements == null) {
+      Object element = firstEqual.get(value);
+      return element != null || firstEqual.containsKey(value) ? element : NOT_FOUND;
+    }
+    for (Object element : linearElements) {
+      if (value == null ? element == null : value.equals(element)) {
+        return element;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  private boolean isHashable(Object value) {
+    if (value == null || hashableClasses.contains(value.getClass())) {
+      return true;
+    }
+    Class<?> type = value.getClass();
+    try {
+      boolean hashable = type.getMethod("equals", Object.class).getDeclaringClass() == Object.class
+          || type.getMethod("hashCode").getDeclaringClass() != Object.class;
+      if (hashable) {
+        hashableClasses.add(type);
+      }
+      return hashable;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dozer.Immutable;
+
+/**
+ * Internal class deciding whether values of a class never change once created, so they can be shared between the
+ * source and destination objects instead of being mapped. The decision is taken once per class. Only intended for
+ * internal use.
+ */
+public final class ImmutableTypes {
+
+  private static final Set<Class<?>> KNOWN_IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(String.class,
+      Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigDecimal.class, BigInteger.class, UUID.class, Currency.class, Locale.class));
+
+  private static final String JAVA_TIME_PACKAGE = "java.time";
+  private static final String RECORD_CLASS_NAME = "java.lang.Record";
+
+  private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return isImmutableType(type);
+    }
+  };
+
+  // records being checked by the current thread, a record referencing itself is conservatively considered mutable
+  private static final ThreadLocal<Set<Class<?>>> RECORDS_IN_PROGRESS = new ThreadLocal<Set<Class<?>>>() {
+    @Override
+    protected Set<Class<?>> initialValue() {
+      return new HashSet<Class<?>>();
+    }
+  };
+
+  private ImmutableTypes() {}
+
+  /**
+   * Immutable types are primitives, boxed primitives, String, BigDecimal, BigInteger, UUID, Currency, Locale, enums,
+   * the final value classes of java.time, classes annotated with {@link Immutable} and records whose components are all
+   * immutable. BigDecimal and BigInteger subclasses are not immutable.
+   *
+   * @param type class to check
+   * @return true if values of exactly this class can be shared
+   */
+  public static boolean isImmutable(Class<?> type) {
+    return type != null && IMMUTABLE.get(type);
+  }
+
+  private static boolean isImmutableType(Class<?> type) {
+    if (type.isPrimitive() || KNOWN_IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)) {
+      return true;
+    }
+    if (type.isAnnotationPresent(Immutable.class)) {
+      return true;
+    }
+    if (type.getPackage() != null && JAVA_TIME_PACKAGE.equals(type.getPackage().getName())) {
+      return Modifier.isFinal(type.getModifiers());
+    }
+    return type.getSuperclass() != null && RECORD_CLASS_NAME.equals(type.getSuperclass().getName())
+        && hasImmutableComponents(type);
+  }
+
+  private static boolean hasImmutableComponents(Class<?> recordType) {
+    Set<Class<?>> inProgress = RECORDS_IN_PROGRESS.get();
+    if (!inProgress.add(recordType)) {
+      return false;
+    }
+    try {
+      for (Field field : recordType.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && !isComponentImmutable(field.getType(), inProgress)) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      inProgress.remove(recordType);
+    }
+  }
+
+  private static boolean isComponentImmutable(Class<?> componentType, Set<Class<?>> inProgress) {
+    // a record cycle is not resolved through the cache, which would store the conservative answer for good
+    if (inProgress.contains(componentType)) {
+      return false;
+    }
+    // a component of a non final type may hold a mutable subclass
+    return (componentType.isPrimitive() || Modifier.isFinal(componentType.getModifiers())) && isImmutable(componentType);
+  }
+
+}
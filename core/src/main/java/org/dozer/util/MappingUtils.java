@@ -193,6 +193,11 @@ public final class MappingUtils {
       if (index < x.length) {
         return x[index];
       }
+    } else if (collection instanceof List) {
+      List<?> x = (List<?>) collection;
+      if (index < x.size()) {
+        result = x.get(index);
+      }
     } else if (collection instanceof Collection) {
       Collection<?> x = (Collection<?>) collection;
       if (index < x.size()) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class copying primitive arrays without boxing their elements one by one. Not intended for direct use by
+ * application code.
+ */
+public final class PrimitiveArrayUtils {
+
+  // numeric primitive types, each one widens to all types following it
+  private static final List<Class<?>> NUMERIC_TYPES = Arrays.<Class<?>>asList(byte.class, short.class, int.class,
+      long.class, float.class, double.class);
+
+  private PrimitiveArrayUtils() {}
+
+  /**
+   * @return true if srcType is converted to destType by a primitive widening conversion, char is not considered numeric
+   */
+  public static boolean isWidening(Class<?> srcType, Class<?> destType) {
+    int srcIndex = NUMERIC_TYPES.indexOf(srcType);
+    return srcIndex >= 0 && srcIndex < NUMERIC_TYPES.indexOf(destType);
+  }
+
+  /**
+   * Copies all elements of srcArray into destArray starting at destPos, widening them if the component types differ.
+   *
+   * @param srcArray primitive array
+   * @param destArray primitive array of the same or a wider component type
+   * @param destPos starting position in destArray
+   */
+  public static void copy(Object srcArray, Object destArray, int destPos) {
+    int length = Array.getLength(srcArray);
+    if (srcArray.getClass() == destArray.getClass()) {
+      System.arraycopy(srcArray, 0, destArray, destPos, length);
+    } else if (destArray instanceof double[]) {
+      double[] dest = (double[]) destArray;
+      if (srcArray instanceof float[]) {
+        float[] src = (float[]) srcArray;
+        for (int i = 0; i < length; i++) {
+          dest[destPos + i] = src[i];
+        }
+      } else {
+        for (int i = 0; i < length; i++) {
+          dest[destPos + i] = getLong(srcArray, i);
+        }
+      }
+    } else if (destArray instanceof float[]) {
+      float[] dest = (float[]) destArray;
+      for (int i = 0; i < length; i++) {
+        dest[destPos + i] = getLong(srcArray, i);
+      }
+    } else if (destArray instanceof long[]) {
+      long[] dest = (long[]) destArray;
+      for (int i = 0; i < length; i++) {
+        dest[destPos + i] = getLong(srcArray, i);
+      }
+    } else if (destArray instanceof int[]) {
+      int[] dest = (int[]) destArray;
+      for (int i = 0; i < length; i++) {
+        dest[destPos + i] = (int) getLong(srcArray, i);
+      }
+    } else if (destArray instanceof short[]) {
+      short[] dest = (short[]) destArray;
+      for (int i = 0; i < length; i++) {
+        dest[destPos + i] = (short) getLong(srcArray, i);
+      }
+    } else {
+      throw new IllegalArgumentException("Can not widen " + srcArray.getClass() + " to " + destArray.getClass());
+    }
+  }
+
+  // integral values are read as long, so that long to float is rounded only once
+  private static long getLong(Object array, int index) {
+    if (array instanceof int[]) {
+      return ((int[]) array)[index];
+    } else if (array instanceof long[]) {
+      return ((long[]) array)[index];
+    } else if (array instanceof short[]) {
+      return ((short[]) array)[index];
+    } else if (array instanceof byte[]) {
+      return ((byte[]) array)[index];
+    }
+    throw new IllegalArgumentException("Not an integral array " + array.getClass());
+  }
+
+  /**
+   * @param primitiveArray primitive array
+   * @return modifiable list of the boxed elements
+   */
+  public static List<Object> toList(Object primitiveArray) {
+    int length = Array.getLength(primitiveArray);
+    List<Object> result = new ArrayList<Object>(length);
+    if (primitiveArray instanceof int[]) {
+      for (int value : (int[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof long[]) {
+      for (long value : (long[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof double[]) {
+      for (double value : (double[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof float[]) {
+      for (float value : (float[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof short[]) {
+      for (short value : (short[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof byte[]) {
+      for (byte value : (byte[]) primitiveArray) {
+        result.add(value);
+      }
+    } else if (primitiveArray instanceof char[]) {
+      for (char value : (char[]) primitiveArray) {
+        result.add(value);
+      }
+    } else {
+      for (boolean value : (boolean[]) primitiveArray) {
+        result.add(value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param values values to unbox
+   * @param componentType primitive component type of the array to create
+   * @return primitive array of the unboxed values, or null if any of the values is not an instance of the wrapper of
+   *         componentType
+   */
+  public static Object toPrimitiveArray(Collection<?> values, Class<?> componentType) {
+    Class<?> wrapperType = ClassUtils.primitiveToWrapper(componentType);
+    for (Object value : values) {
+      if (value == null || value.getClass() != wrapperType) {
+        return null;
+      }
+    }
+    int i = 0;
+    if (componentType == int.class) {
+      int[] result = new int[values.size()];
+      for (Object value : values) {
+        result[i++] = (Integer) value;
+      }
+      return result;
+    } else if (componentType == long.class) {
+      long[] result = new long[values.size()];
+      for (Object value : values) {
+        result[i++] = (Long) value;
+      }
+      return result;
+    } else if (componentType == double.class) {
+      double[] result = new double[values.size()];
+      for (Object value : values) {
+        result[i++] = (Double) value;
+      }
+      return result;
+    } else if (componentType == float.class) {
+      float[] result = new float[values.size()];
+      for (Object value : values) {
+        result[i++] = (Float) value;
+      }
+      return result;
+    } else if (componentType == short.class) {
+      short[] result = new short[values.size()];
+      for (Object value : values) {
+        result[i++] = (Short) value;
+      }
+      return result;
+    } else if (componentType == byte.class) {
+      byte[] result = new byte[values.size()];
+      for (Object value : values) {
+        result[i++] = (Byte) value;
+      }
+      return result;
+    } else if (componentType == char.class) {
+      char[] result = new char[values.size()];
+      for (Object value : values) {
+        result[i++] = (Character) value;
+      }
+      return result;
+    } else if (componentType == boolean.class) {
+      boolean[] result = new boolean[values.size()];
+      for (Object value : values) {
+        result[i++] = (Boolean) value;
+      }
+      return result;
+    }
+    return null;
+  }
+
+}
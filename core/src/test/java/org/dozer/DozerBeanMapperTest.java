@@ -16,11 +16,21 @@
 package org.dozer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.beanutils.PropertyUtils;
+import org.dozer.config.BeanContainer;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.vo.SimpleObj;
+import org.dozer.vo.SimpleObjPrime;
 import org.dozer.vo.TestObject;
 import org.dozer.vo.generics.deepindex.TestObjectPrime;
 import org.junit.After;
@@ -30,6 +40,7 @@ import org.junit.Test;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -124,4 +135,145 @@ public class DozerBeanMapperTest extends Assert {
     verifyNoMoreInteractions(listener);
   }
 
+  @Test
+  public void shouldMapAll() {
+    SimpleObj first = new SimpleObj();
+    first.setField1("first");
+    SimpleObj second = new SimpleObj();
+    second.setField1("second");
+
+    List<SimpleObjPrime> result = mapper.mapAll(Arrays.asList(first, null, second), SimpleObjPrime.class);
+
+    assertEquals(3, result.size());
+    assertEquals("first", result.get(0).getField1());
+    assertNull(result.get(1));
+    assertEquals("second", result.get(2).getField1());
+  }
+
+  @Test
+  public void shouldMapAllArray() {
+    SimpleObj source = new SimpleObj();
+    source.setField1("value");
+
+    List<SimpleObjPrime> result = mapper.mapAll(new Object[] {source, source}, SimpleObjPrime.class);
+
+    assertEquals(2, result.size());
+    assertEquals("value", result.get(0).getField1());
+    assertNotSame(result.get(0), result.get(1));
+  }
+
+  @Test
+  public void shouldCreateBatchElementsForTheirOwnSource() {
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+              @Override
+              protected void configure() {
+                mapping(SimpleObj.class, type(SimpleObjPrime.class).beanFactory(SourceRecordingBeanFactory.class));
+              }
+            })
+            .build();
+    SimpleObj first = new SimpleObj();
+    SimpleObj second = new SimpleObj();
+    SourceRecordingBeanFactory.SOURCES.clear();
+
+    beanMapper.mapAll(Arrays.asList(first, second), SimpleObjPrime.class);
+
+    assertEquals(2, SourceRecordingBeanFactory.SOURCES.size());
+    assertSame(first, SourceRecordingBeanFactory.SOURCES.get(0));
+    assertSame(second, SourceRecordingBeanFactory.SOURCES.get(1));
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldNotMapAllNullSources() {
+    mapper.mapAll((Iterable<?>) null, SimpleObjPrime.class);
+  }
+
+  @Test
+  public void shouldFireEventsOncePerBatch() {
+    DozerEventListener listener = mock(DozerEventListener.class);
+
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withEventListener(listener)
+            .build();
+    beanMapper.mapAll(Arrays.asList(new Object(), new Object(), new Object()), Object.class);
+
+    verify(listener, times(1)).mappingStarted(any());
+    verify(listener, times(1)).mappingFinished(any());
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  public void shouldMapIteratorLazily() {
+    final AtomicInteger pulled = new AtomicInteger();
+    final SimpleObj source = new SimpleObj();
+    source.setField1("value");
+    Iterator<SimpleObj> sources = new Iterator<SimpleObj>() {
+      public boolean hasNext() {
+        return pulled.get() < 3;
+      }
+
+      public SimpleObj next() {
+        pulled.incrementAndGet();
+        return source;
+      }
+    };
+
+    Iterator<SimpleObjPrime> result = mapper.mapIterator(sources, SimpleObjPrime.class);
+    assertEquals(0, pulled.get());
+
+    SimpleObjPrime first = result.next();
+    assertEquals(1, pulled.get());
+    assertEquals("value", first.getField1());
+
+    SimpleObjPrime second = result.next();
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void shouldMapStream() {
+    SimpleObj source = new SimpleObj();
+    source.setField1("value");
+    AtomicBoolean closed = new AtomicBoolean();
+
+    List<SimpleObjPrime> result;
+    try (Stream<SimpleObjPrime> stream = mapper.mapStream(Stream.of(source, null).onClose(() -> closed.set(true)),
+        SimpleObjPrime.class)) {
+      result = stream.collect(Collectors.toList());
+    }
+
+    assertEquals(2, result.size());
+    assertEquals("value", result.get(0).getField1());
+    assertNull(result.get(1));
+    assertTrue(closed.get());
+  }
+
+  @Test
+  public void shouldFireEventsOncePerIteration() {
+    DozerEventListener listener = mock(DozerEventListener.class);
+
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withEventListener(listener)
+            .build();
+    Iterator<Object> result = beanMapper.mapIterator(Arrays.asList(new Object(), new Object()).iterator(), Object.class);
+    while (result.hasNext()) {
+      result.next();
+    }
+    assertFalse(result.hasNext());
+
+    verify(listener, times(1)).mappingStarted(any());
+    verify(listener, times(1)).mappingFinished(any());
+    verifyNoMoreInteractions(listener);
+  }
+
+  public static class SourceRecordingBeanFactory implements BeanFactory {
+
+    private static final List<Object> SOURCES = new ArrayList<Object>();
+
+    @Override
+    public Object createBean(Object source, Class<?> sourceClass, String targetBeanId, BeanContainer beanContainer) {
+      SOURCES.add(source);
+      return new SimpleObjPrime();
+    }
+  }
+
 }
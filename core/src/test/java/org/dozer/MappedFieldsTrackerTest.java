@@ -20,6 +20,7 @@ import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
 
 /**
  * @author dmitry.buzdin
@@ -76,6 +77,54 @@ public class MappedFieldsTrackerTest extends AbstractDozerTest{
     assertNull(tracker.getMappedValue("", String.class, "brandNewMapId"));
   }
 
+  @Test
+  public void testManySources() {
+    Object[] sources = new Object[1000];
+    for (int i = 0; i < sources.length; i++) {
+      sources[i] = new Object();
+      tracker.put(sources[i], Integer.valueOf(i));
+    }
+
+    for (int i = 0; i < sources.length; i++) {
+      assertEquals(Integer.valueOf(i), tracker.getMappedValue(sources[i], Integer.class));
+    }
+    assertNull(tracker.getMappedValue(new Object(), Integer.class));
+  }
+
+  @Test
+  public void testSeveralDestinationsOfOneSource() {
+    Object src = new Object();
+    tracker.put(src, "1");
+    tracker.put(src, "2", "someId");
+    tracker.put(src, 3);
+    tracker.put(src, "4");
+
+    assertEquals("1", tracker.getMappedValue(src, String.class));
+    assertEquals("2", tracker.getMappedValue(src, String.class, "someId"));
+    assertEquals(3, tracker.getMappedValue(src, Integer.class));
+  }
+
+  @Test
+  public void testNullSource() {
+    tracker.put(null, "1");
+    assertEquals("1", tracker.getMappedValue(null, String.class));
+    assertNull(tracker.getMappedValue("", String.class));
+  }
+
+  @Test
+  public void testReleasedTableIsReused() {
+    MappedFieldsTracker acquired = MappedFieldsTracker.acquire();
+    acquired.put("", "1");
+    Object table = Whitebox.getInternalState(acquired, "table");
+    MappedFieldsTracker.release(acquired);
+
+    MappedFieldsTracker reused = MappedFieldsTracker.acquire();
+    assertNotSame(acquired, reused);
+    assertSame(table, Whitebox.getInternalState(reused, "table"));
+    assertNull(reused.getMappedValue("", String.class));
+    assertNotSame(table, Whitebox.getInternalState(MappedFieldsTracker.acquire(), "table"));
+  }
+
   public static class Boom {
     @Override
     public int hashCode() {
@@ -55,6 +55,21 @@ public class MappingProcessorTest extends AbstractDozerTest {
     assertSame(dest1.getB(), dest2.getB());
   }
 
+  @Test
+  public void testMappingProcessorsDoNotShareMappedObjects() {
+    DozerBeanMapper mapper = (DozerBeanMapper) DozerBeanMapperBuilder.buildDefault();
+
+    A src = new A();
+    src.setB(new B());
+
+    A dest1 = new A();
+    mapper.getMappingProcessor().map(src, dest1);
+    A dest2 = new A();
+    mapper.getMappingProcessor().map(src, dest2);
+
+    assertNotSame(dest1.getB(), dest2.getB());
+  }
+
   @Test
   public void testPrepareDetinationList_OK() {
     List<?> result = MappingProcessor.prepareDestinationList(sourceList, destinationList);
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ParallelBatchMappingTest extends AbstractDozerTest {
+
+  private Mapper mapper;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    mapper = DozerBeanMapperBuilder.buildDefault();
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void shouldKeepOrderOfSources() {
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 10000; i++) {
+      sources.add(i % 100 == 0 ? null : new Source(i));
+    }
+
+    List<Dest> result = mapper.mapAll(sources, Dest.class, null, executor);
+
+    assertEquals(sources.size(), result.size());
+    for (int i = 0; i < sources.size(); i++) {
+      if (i % 100 == 0) {
+        assertNull(result.get(i));
+      } else {
+        assertEquals(i, result.get(i).getValue());
+      }
+    }
+  }
+
+  @Test
+  public void shouldMapArrayOnCommonPool() {
+    Source[] sources = new Source[1000];
+    for (int i = 0; i < sources.length; i++) {
+      sources[i] = new Source(i);
+    }
+
+    List<Dest> result = mapper.mapAll(sources, Dest.class, null, ForkJoinPool.commonPool());
+
+    assertEquals(sources.length, result.size());
+    assertEquals(999, result.get(999).getValue());
+  }
+
+  @Test
+  public void shouldMapSequentialList() {
+    List<Source> sources = new LinkedList<Source>();
+    for (int i = 0; i < 1000; i++) {
+      sources.add(new Source(i));
+    }
+
+    List<Dest> result = mapper.mapAll(sources, Dest.class, null, executor);
+
+    assertEquals(1000, result.size());
+    assertEquals(500, result.get(500).getValue());
+  }
+
+  @Test
+  public void shouldMapSharedSourcePerElement() {
+    Source source = new Source(1);
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 200; i++) {
+      sources.add(source);
+    }
+
+    List<Dest> result = mapper.mapAll(sources, Dest.class, null, executor);
+
+    Set<Dest> distinct = Collections.newSetFromMap(new IdentityHashMap<Dest, Boolean>());
+    distinct.addAll(result);
+    assertEquals(200, distinct.size());
+  }
+
+  @Test
+  public void shouldReturnModifiableList() {
+    List<Dest> result = mapper.mapAll(new Source[] {new Source(1)}, Dest.class, null, executor);
+
+    result.add(new Dest());
+
+    assertEquals(2, result.size());
+  }
+
+  @Test
+  public void shouldCollectFailuresByIndex() {
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 1000; i++) {
+      sources.add(new Source(i % 300 == 7 ? -i : i));
+    }
+
+    try {
+      mapper.mapAll(sources, Dest.class, null, executor);
+      fail("failures expected");
+    } catch (BatchMappingException e) {
+      assertEquals(4, e.getFailures().size());
+      assertEquals(Integer.valueOf(7), e.getFailures().firstKey());
+      assertTrue(e.getFailures().containsKey(307));
+      assertTrue(e.getFailures().containsKey(607));
+      assertTrue(e.getFailures().containsKey(907));
+      assertSame(e.getFailures().get(7), e.getCause());
+    }
+  }
+
+  @Test
+  public void shouldFireEventsOncePerBatch() {
+    DozerEventListener listener = mock(DozerEventListener.class);
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withEventListener(listener)
+            .build();
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 1000; i++) {
+      sources.add(new Source(i));
+    }
+
+    beanMapper.mapAll(sources, Dest.class, null, executor);
+
+    verify(listener, times(1)).mappingStarted(any());
+    verify(listener, times(1)).mappingFinished(any());
+  }
+
+  @Test
+  public void shouldFireFinishedEventWhenElementsFail() {
+    DozerEventListener listener = mock(DozerEventListener.class);
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withEventListener(listener)
+            .build();
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 1000; i++) {
+      sources.add(new Source(i == 500 ? -i : i));
+    }
+
+    try {
+      beanMapper.mapAll(sources, Dest.class, null, executor);
+      fail("failure expected");
+    } catch (BatchMappingException e) {
+      verify(listener, times(1)).mappingStarted(any());
+      verify(listener, times(1)).mappingFinished(any());
+    }
+  }
+
+  @Test(expected = MappingException.class)
+  public void shouldNotMapWithoutExecutor() {
+    mapper.mapAll(new ArrayList<Source>(), Dest.class, null, null);
+  }
+
+  @Test
+  public void shouldSplitIntoChunks() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      assertEquals(0, ParallelBatchMapping.getChunkCount(0, pool));
+      assertEquals(1, ParallelBatchMapping.getChunkCount(ParallelBatchMapping.MIN_CHUNK_SIZE, pool));
+      assertEquals(2, ParallelBatchMapping.getChunkCount(ParallelBatchMapping.MIN_CHUNK_SIZE + 1, pool));
+      assertEquals(2 * ParallelBatchMapping.CHUNKS_PER_THREAD, ParallelBatchMapping.getChunkCount(1000000, pool));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public static class Source {
+
+    private int value;
+
+    public Source() {
+    }
+
+    public Source(int value) {
+      this.value = value;
+    }
+
+    public int getValue() {
+      if (value < 0) {
+        throw new IllegalStateException("negative value " + value);
+      }
+      return value;
+    }
+
+    public void setValue(int value) {
+      this.value = value;
+    }
+
+  }
+
+  public static class Dest {
+
+    private int value;
+
+    public int getValue() {
+      return value;
+    }
+
+    public void setValue(int value) {
+      this.value = value;
+    }
+
+  }
+
+}
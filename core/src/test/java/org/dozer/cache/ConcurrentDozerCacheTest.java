@@ -0,0 +1,143 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class ConcurrentDozerCacheTest extends AbstractDozerTest {
+
+  @Test
+  public void testPutGetFromCache() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 50);
+    int numCacheEntriesToAdd = 45;
+    for (int i = 0; i < numCacheEntriesToAdd; i++) {
+      String key = String.valueOf(i);
+
+      assertNull("cache entry should not already exist", cache.get(key));
+
+      cache.put(key, "testvalue" + i);
+
+      assertEquals("cache entries should be equal", "testvalue" + i, cache.get(key));
+    }
+    assertEquals("invalid cache size", numCacheEntriesToAdd, cache.getSize());
+  }
+
+  @Test
+  public void testNullValue() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 5);
+    cache.put("A", null);
+
+    assertTrue(cache.containsKey("A"));
+    assertNull(cache.get("A"));
+    assertEquals(1, cache.getSize());
+  }
+
+  @Test
+  public void testMaximumCacheSize() {
+    int maxSize = 25;
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), maxSize);
+    for (int i = 0; i < maxSize + 125; i++) {
+      cache.put("testkey" + i, "testvalue" + i);
+    }
+    assertEquals("cache size should not exceed max size", maxSize, cache.getSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaximumCacheSize_Zero() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 0);
+  }
+
+  @Test
+  public void testRecentlyReadEntriesAreKept() {
+    int maxSize = 8;
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), maxSize);
+    cache.put("hot", "value");
+    for (int i = 0; i < 1000; i++) {
+      cache.put("testkey" + i, "testvalue" + i);
+      assertEquals("hot", "value", cache.get("hot"));
+    }
+    assertEquals(maxSize, cache.getSize());
+  }
+
+  @Test
+  public void testClear() {
+    Cache<Object, String> cache = new ConcurrentDozerCache<Object, String>(getRandomString(), 50);
+    Object key = CacheKeyFactory.createKey(String.class, Integer.class);
+    cache.put(key, "testvalue");
+
+    assertEquals("cache should contain entry", 1, cache.getSize());
+    cache.clear();
+    assertEquals("cache should have been cleared", 0, cache.getSize());
+  }
+
+  @Test
+  public void testGetMaxSize() {
+    Cache<String, String> cache = new ConcurrentDozerCache<String, String>(getRandomString(), 550);
+
+    assertEquals("invalid max size", 550, cache.getMaxSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetNull() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 5).get(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPutNull() {
+    new ConcurrentDozerCache<String, String>(getRandomString(), 5).put(null, null);
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    final int maxSize = 100;
+    final Cache<Integer, Integer> cache = new ConcurrentDozerCache<Integer, Integer>(getRandomString(), maxSize);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int t = 0; t < 8; t++) {
+        final int offset = t * 1000;
+        futures.add(executor.submit(new Callable<Void>() {
+          public Void call() {
+            for (int i = 0; i < 1000; i++) {
+              Integer key = offset + i;
+              cache.put(key, key);
+              Integer value = cache.get(key);
+              if (value != null) {
+                assertEquals(key, value);
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue("cache size should not exceed max size", cache.getSize() <= maxSize);
+  }
+
+}
@@ -15,14 +15,22 @@
  */
 package org.dozer.classmap;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.dozer.AbstractDozerTest;
 import org.dozer.MappingException;
+import org.dozer.cache.Cache;
 import org.dozer.config.BeanContainer;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
 
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +65,31 @@ public class ClassMappingsTest extends AbstractDozerTest{
     assertNotNull(result);
   }
 
+  @Test
+  public void testIsConfigured() {
+    ClassMap oneWay = mock(ClassMap.class);
+    when(oneWay.getType()).thenReturn(MappingDirection.ONE_WAY);
+    classMappings.add(String.class, Integer.class, mock(ClassMap.class));
+    classMappings.add(Long.class, Integer.class, oneWay);
+    classMappings.addDefault(Double.class, Integer.class, mock(ClassMap.class));
+
+    assertTrue(classMappings.isConfigured(String.class, Integer.class));
+    assertTrue(classMappings.isConfigured(Integer.class, String.class));
+    assertTrue(classMappings.isConfigured(Long.class, Integer.class));
+    assertFalse(classMappings.isConfigured(Integer.class, Long.class));
+    assertFalse(classMappings.isConfigured(Double.class, Integer.class));
+  }
+
+  @Test
+  public void shouldForgetReplacedDefaultMappings() {
+    classMappings.addDefault(Double.class, Integer.class, mock(ClassMap.class));
+    classMappings.addDefault(Double.class, Integer.class, mock(ClassMap.class));
+
+    Set<?> defaultMappings = (Set<?>) Whitebox.getInternalState(classMappings, "defaultMappings");
+    assertEquals(1, defaultMappings.size());
+    assertFalse(classMappings.isConfigured(Double.class, Integer.class));
+  }
+
   @Test(expected = MappingException.class)
   public void testNotFoundByMapid() {
     classMappings.find(NestedClass.class, String.class, "A");
@@ -71,6 +104,81 @@ public class ClassMappingsTest extends AbstractDozerTest{
     assertEquals(2, result.size());
   }
 
+  @Test
+  public void shouldFindByMapId() {
+    ClassMap classMap = mock(ClassMap.class);
+    ClassMap classMapWithId = mock(ClassMap.class);
+    classMappings.add(String.class, Integer.class, classMap);
+    classMappings.add(String.class, Integer.class, "id", classMapWithId);
+
+    assertSame(classMap, classMappings.find(String.class, Integer.class));
+    assertSame(classMap, classMappings.find(String.class, Integer.class, ""));
+    assertSame(classMapWithId, classMappings.find(String.class, Integer.class, "id"));
+    assertTrue(classMappings.contains(String.class, Integer.class, "id"));
+    assertFalse(classMappings.contains(Integer.class, String.class, "id"));
+  }
+
+  @Test
+  public void shouldAddAll() {
+    ClassMappings other = new ClassMappings(new BeanContainer());
+    other.add(String.class, Integer.class, mock(ClassMap.class));
+    other.add(String.class, Integer.class, "id", mock(ClassMap.class));
+    other.add(String.class, Long.class, mock(ClassMap.class));
+
+    classMappings.addAll(other);
+
+    assertEquals(3, classMappings.size());
+    assertNotNull(classMappings.find(String.class, Long.class));
+    assertNotNull(classMappings.find(String.class, Integer.class, "id"));
+  }
+
+  @Test
+  public void shouldFindInterfaceMapping() {
+    ClassMap classMap = mockClassMap(List.class, String.class);
+    classMappings.add(List.class, String.class, classMap);
+
+    assertSame(classMap, classMappings.find(ArrayList.class, String.class, null));
+    assertSame(classMap, classMappings.find(ArrayList.class, String.class));
+    assertNull(classMappings.find(HashSet.class, String.class, null));
+  }
+
+  @Test
+  public void shouldFindAbstractDestinationMapping() {
+    ClassMap classMap = mockClassMap(String.class, ArrayList.class);
+    classMappings.add(String.class, ArrayList.class, classMap);
+
+    assertSame(classMap, classMappings.find(String.class, AbstractList.class, null));
+  }
+
+  @Test
+  public void shouldFindInterfaceMappingAddedAfterMiss() {
+    assertNull(classMappings.find(ArrayList.class, String.class, null));
+
+    ClassMap classMap = mockClassMap(List.class, String.class);
+    classMappings.add(List.class, String.class, classMap);
+
+    assertSame(classMap, classMappings.find(ArrayList.class, String.class, null));
+  }
+
+  @Test
+  public void shouldBoundMissingInterfaceMappings() {
+    assertNull(classMappings.find(ArrayList.class, String.class, null));
+    assertNull(classMappings.find(ArrayList.class, String.class, null));
+
+    Cache<?, ?> missingInterfaceMappings = (Cache<?, ?>) Whitebox.getInternalState(classMappings, "missingInterfaceMappings");
+    assertEquals(1, missingInterfaceMappings.getSize());
+    assertTrue(missingInterfaceMappings.getMaxSize() > 0);
+  }
+
+  @Test
+  public void shouldFindByMapIdOfSuperType() {
+    ClassMap classMap = mockClassMap(AbstractList.class, Object.class);
+    when(classMap.getMapId()).thenReturn("id");
+    classMappings.add(AbstractList.class, Object.class, "id", classMap);
+
+    assertSame(classMap, classMappings.find(ArrayList.class, String.class, "id"));
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void shouldFailOnDuplicate() {
     ClassMap classMap = mock(ClassMap.class);
@@ -93,6 +201,13 @@ public class ClassMappingsTest extends AbstractDozerTest{
     classMappings.add(String.class, String.class, classMap);
   }
 
+  private static ClassMap mockClassMap(Class<?> srcClass, Class<?> destClass) {
+    ClassMap classMap = mock(ClassMap.class);
+    doReturn(srcClass).when(classMap).getSrcClassToMap();
+    doReturn(destClass).when(classMap).getDestClassToMap();
+    return classMap;
+  }
+
   public static class NestedClass {
 
   }
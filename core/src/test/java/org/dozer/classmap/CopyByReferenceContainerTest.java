@@ -41,4 +41,19 @@ public class CopyByReferenceContainerTest extends AbstractDozerTest{
     assertTrue(container.contains(List.class.getName()));
   }
 
+  @Test
+  public void testContainsClass() throws Exception {
+    assertFalse(container.contains(List.class));
+
+    container.add(new CopyByReference("java.util.*"));
+
+    assertFalse(container.contains(String.class));
+    assertTrue(container.contains(List.class));
+    assertTrue(container.contains(List.class));
+
+    container.add(new CopyByReference("java.lang.String"));
+
+    assertTrue(container.contains(String.class));
+  }
+
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.cache.Cache;
+import org.dozer.cache.CacheKeyFactory;
+import org.dozer.cache.DozerCache;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMapBuilder;
+import org.dozer.classmap.Configuration;
+import org.dozer.classmap.generator.BeanMappingGenerator;
+import org.dozer.config.BeanContainer;
+import org.dozer.converters.CustomConverterDescription;
+import org.dozer.factory.DestBeanCreator;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.functional_tests.support.StringAppendCustomConverter;
+import org.dozer.propertydescriptor.PropertyDescriptorFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClassMapCompilerTest extends AbstractDozerTest {
+
+  private ClassMapBuilder classMapBuilder;
+  private Cache converterByDestTypeCache;
+  private ClassMapCompiler compiler;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    BeanContainer beanContainer = new BeanContainer();
+    DestBeanCreator destBeanCreator = new DestBeanCreator(beanContainer);
+    PropertyDescriptorFactory propertyDescriptorFactory = new PropertyDescriptorFactory();
+    classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator,
+        new BeanMappingGenerator(beanContainer, destBeanCreator, propertyDescriptorFactory), propertyDescriptorFactory);
+    converterByDestTypeCache = new DozerCache("converterByDestType", 100);
+    compiler = new ClassMapCompiler(converterByDestTypeCache);
+  }
+
+  @Test
+  public void testCompilesSimpleProperties() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Dest.class);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, Source.class, Dest.class);
+
+    assertNotNull(compiled);
+    assertEquals(classMap.getFieldMaps().size(), compiled.size());
+    assertEquals(7, compiled.getCompiledCount());
+
+    List<FieldMap> fieldMaps = classMap.getFieldMaps();
+    for (int i = 0; i < fieldMaps.size(); i++) {
+      String fieldName = fieldMaps.get(i).getDestFieldName();
+      boolean expectCompiled = !"tags".equals(fieldName) && !"child".equals(fieldName);
+      assertEquals(fieldName, expectCompiled, compiled.getFieldMapping(i) != null);
+    }
+  }
+
+  @Test
+  public void testCompiledMappingsCopyValues() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Dest.class);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, Source.class, Dest.class);
+
+    Source src = new Source();
+    src.setId(42);
+    src.setCount(Long.MAX_VALUE);
+    src.setAmount(12.5d);
+    src.setActive(true);
+    src.setName("name");
+    src.setCode(7);
+    src.setStatus(Status.ACTIVE);
+
+    Dest dest = new Dest();
+    for (int i = 0; i < compiled.size(); i++) {
+      if (compiled.getFieldMapping(i) != null) {
+        compiled.getFieldMapping(i).map(src, dest);
+      }
+    }
+
+    assertEquals(42, dest.getId());
+    assertEquals(Long.MAX_VALUE, dest.getCount());
+    assertEquals(12.5d, dest.getAmount(), 0d);
+    assertTrue(dest.isActive());
+    assertEquals("name", dest.getName());
+    assertEquals(Integer.valueOf(7), dest.getCode());
+    assertEquals(Status.ACTIVE, dest.getStatus());
+  }
+
+  @Test
+  public void testNullIsNotWrittenWhenMapNullIsDisabled() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Dest.class);
+    classMap.getDestClass().setMapNull(false);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, Source.class, Dest.class);
+
+    Dest dest = new Dest();
+    dest.setName("existing");
+    for (int i = 0; i < compiled.size(); i++) {
+      if (compiled.getFieldMapping(i) != null) {
+        compiled.getFieldMapping(i).map(new Source(), dest);
+      }
+    }
+
+    assertEquals("existing", dest.getName());
+  }
+
+  @Test
+  public void testBlankStringIsTrimmedBeforeEmptyStringCheck() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Dest.class);
+    classMap.getDestClass().setMapEmptyString(false);
+    classMap.setTrimStrings(true);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, Source.class, Dest.class);
+
+    Source src = new Source();
+    src.setName("   ");
+    Dest dest = new Dest();
+    dest.setName("existing");
+    for (int i = 0; i < compiled.size(); i++) {
+      if (compiled.getFieldMapping(i) != null) {
+        compiled.getFieldMapping(i).map(src, dest);
+      }
+    }
+
+    assertEquals("existing", dest.getName());
+  }
+
+  @Test
+  public void testCustomConverterIsResolvedAsInterpreted() {
+    Configuration configuration = new Configuration();
+    CustomConverterDescription converter = new CustomConverterDescription();
+    converter.setClassA(String.class);
+    converter.setClassB(String.class);
+    converter.setType(StringAppendCustomConverter.class);
+    configuration.getCustomConverters().addConverter(converter);
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(configuration, Source.class, Dest.class);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, Source.class, Dest.class);
+
+    List<FieldMap> fieldMaps = classMap.getFieldMaps();
+    for (int i = 0; i < fieldMaps.size(); i++) {
+      if ("name".equals(fieldMaps.get(i).getDestFieldName())) {
+        assertNull(compiled.getFieldMapping(i));
+      }
+    }
+    assertEquals(StringAppendCustomConverter.class,
+        converterByDestTypeCache.get(CacheKeyFactory.createKey(String.class, String.class)));
+  }
+
+  @Test
+  public void testNotAppliedToOtherRuntimeClasses() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), Source.class, Dest.class);
+
+    assertNull(compiler.getCompiledClassMap(classMap, SubSource.class, Dest.class));
+    assertNotNull(compiler.getCompiledClassMap(classMap, Source.class, Dest.class));
+  }
+
+  @Test
+  public void testNonPublicClassesAreCompiled() {
+    ClassMap classMap = classMapBuilder.createDefaultClassMap(new Configuration(), HiddenSource.class, Dest.class);
+    CompiledClassMap compiled = compiler.getCompiledClassMap(classMap, HiddenSource.class, Dest.class);
+
+    assertNotNull(compiled);
+    assertEquals(1, compiled.getCompiledCount());
+
+    HiddenSource src = new HiddenSource();
+    src.setId(3);
+    Dest dest = new Dest();
+    compiled.getFieldMapping(0).map(src, dest);
+
+    assertEquals(3, dest.getId());
+  }
+
+  public enum Status {
+    ACTIVE, INACTIVE
+  }
+
+  public static class Source {
+    private int id;
+    private long count;
+    private double amount;
+    private boolean active;
+    private String name;
+    private Integer code;
+    private Status status;
+    private List<String> tags = new ArrayList<String>();
+    private Source child;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public void setCount(long count) {
+      this.count = count;
+    }
+
+    public double getAmount() {
+      return amount;
+    }
+
+    public void setAmount(double amount) {
+      this.amount = amount;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Integer getCode() {
+      return code;
+    }
+
+    public void setCode(Integer code) {
+      this.code = code;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public void setStatus(Status status) {
+      this.status = status;
+    }
+
+    public List<String> getTags() {
+      return tags;
+    }
+
+    public void setTags(List<String> tags) {
+      this.tags = tags;
+    }
+
+    public Source getChild() {
+      return child;
+    }
+
+    public void setChild(Source child) {
+      this.child = child;
+    }
+  }
+
+  public static class SubSource extends Source {
+  }
+
+  static class HiddenSource {
+    private int id;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+  }
+
+  public static class Dest extends Source {
+  }
+
+}
@@ -16,6 +16,8 @@
 package org.dozer.converters;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import org.dozer.AbstractDozerTest;
@@ -103,15 +105,66 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
   }
 
   @Test
-  public void shouldPutNullInCache() {
+  public void testShared_FirstMatchWins() {
+    CustomConverterDescription byHierarchy = new CustomConverterDescription();
+    byHierarchy.setClassA(Number.class);
+    byHierarchy.setClassB(String.class);
+    byHierarchy.setType(Object.class);
+    CustomConverterDescription exact = new CustomConverterDescription();
+    exact.setClassA(Integer.class);
+    exact.setClassB(String.class);
+    exact.setType(Void.class);
+    CustomConverterDescription exactDate = new CustomConverterDescription();
+    exactDate.setClassA(Date.class);
+    exactDate.setClassB(String.class);
+    exactDate.setType(Void.class);
+    CustomConverterContainer shared = CustomConverterContainer.shared(Arrays.asList(byHierarchy, exact, exactDate));
+
+    for (int i = 0; i < 2; i++) {
+      assertEquals(Object.class, shared.findConverter(Integer.class, String.class));
+      assertEquals(Object.class, shared.findConverter(String.class, Long.class));
+      assertEquals(Void.class, shared.findConverter(String.class, Date.class));
+      assertEquals(Void.class, shared.findConverter(java.sql.Date.class, String.class));
+      assertNull(shared.findConverter(String.class, Boolean.class));
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testShared_CanNotBeModified() {
+    CustomConverterContainer shared = CustomConverterContainer.shared(converters);
+
+    shared.addConverter(new CustomConverterDescription());
+  }
+
+  @Test
+  public void shouldCacheMissingConverter() {
     CustomConverterDescription description = new CustomConverterDescription();
     description.setClassA(String.class);
     description.setClassB(String.class);
     ccc.addConverter(description);
 
     assertNull(ccc.getCustomConverter(Integer.class, Double.class, cache));
-    
+    assertNull(ccc.getCustomConverter(Integer.class, Double.class, cache));
+
     assertEquals(1, cache.getSize());
   }
 
+  @Test
+  public void shouldFindConverterOfEvictedEntry() {
+    CustomConverterDescription description = new CustomConverterDescription();
+    description.setClassA(String.class);
+    description.setClassB(Integer.class);
+    description.setType(Void.class);
+    converters.add(description);
+    // an entry evicted right after being found
+    DozerCache evictingCache = new DozerCache("NAME", 10) {
+      @Override
+      public boolean containsKey(Object key) {
+        return true;
+      }
+    };
+
+    assertEquals(Void.class, ccc.getCustomConverter(String.class, Integer.class, evictingCache));
+  }
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class DateFormatContainerTest extends AbstractDozerTest {
+
+  @Test
+  public void testSharedContainerPerPattern() {
+    DateFormatContainer container = DateFormatContainer.forPattern("yyyy-MM-dd");
+
+    assertTrue(container.isShared());
+    assertSame(container, DateFormatContainer.forPattern("yyyy-MM-dd"));
+    assertNotSame(container, DateFormatContainer.forPattern("dd.MM.yyyy"));
+    assertSame(container.getDateFormat(), container.getDateFormat());
+    assertEquals("yyyy-MM-dd", ((SimpleDateFormat) container.getDateFormat()).toPattern());
+  }
+
+  @Test
+  public void testSharedContainerWithoutPattern() {
+    DateFormatContainer container = DateFormatContainer.forPattern(null);
+
+    assertTrue(container.isShared());
+    assertNull(container.getDateFormat());
+  }
+
+  @Test
+  public void testDateFormatPerThread() throws Exception {
+    final DateFormatContainer container = DateFormatContainer.forPattern("yyyy-MM-dd");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      DateFormat otherThreadFormat = executor.submit(new Callable<DateFormat>() {
+        public DateFormat call() {
+          return container.getDateFormat();
+        }
+      }).get();
+
+      assertNotSame(container.getDateFormat(), otherThreadFormat);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testDateTimeFormatterMatchesDateFormat() {
+    ZonedDateTime dateTime = ZonedDateTime.of(2017, 3, 15, 13, 4, 5, 7000000, ZoneId.of("America/New_York"));
+    String[] patterns = {
+        "yyyy-MM-dd'T'HH:mm:ss,S Z",
+        "u F D k K h",
+        "#{yyyy}[MM]",
+        "EEE, d MMM yyyy HH:mm:ss.SSSS XXX",
+        "hh 'o''clock' a ''yy''"
+    };
+    for (String pattern : patterns) {
+      SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, Locale.US);
+      dateFormat.setTimeZone(TimeZone.getTimeZone(dateTime.getZone()));
+
+      assertEquals(pattern, dateFormat.format(Date.from(dateTime.toInstant())),
+          DateFormatContainer.toDateTimeFormatter(pattern).withLocale(Locale.US).format(dateTime));
+    }
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testInvalidPatternForDateTimeFormatter() {
+    DateFormatContainer.forPattern("yyyy 'unterminated").getDateTimeFormatter();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSharedContainerIsImmutable() {
+    DateFormatContainer.forPattern("yyyy-MM-dd").setDateFormat(new SimpleDateFormat());
+  }
+
+  @Test
+  public void testConcurrentConversion() throws Exception {
+    final PrimitiveOrWrapperConverter converter = new PrimitiveOrWrapperConverter(null);
+    final DateFormatContainer container = DateFormatContainer.forPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    final SimpleDateFormat expectedFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+      for (int i = 0; i < 8; i++) {
+        final long offset = i * 86400000L;
+        results.add(executor.submit(new Callable<Boolean>() {
+          public Boolean call() throws Exception {
+            for (int j = 0; j < 500; j++) {
+              Date date = new Date(offset + j * 1001L);
+              String text = (String) converter.convert(date, String.class, container);
+              Date parsed = (Date) converter.convert(text, Date.class, container);
+              if (!date.equals(parsed)) {
+                return false;
+              }
+            }
+            return true;
+          }
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+      assertEquals(expectedFormat.format(new Date(0)), converter.convert(new Date(0), String.class, container));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.converters;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class JavaTimeConverterTest extends AbstractDozerTest {
+
+  private final PrimitiveOrWrapperConverter converter = new PrimitiveOrWrapperConverter(null);
+  private final DateFormatContainer noFormat = DateFormatContainer.forPattern(null);
+
+  @Test
+  public void testAccepts() {
+    assertTrue(converter.accepts(Instant.class));
+    assertTrue(converter.accepts(LocalDate.class));
+    assertTrue(converter.accepts(ZonedDateTime.class));
+    assertFalse(converter.accepts(ZoneId.class));
+  }
+
+  @Test
+  public void testSameTypeIsNotCopied() {
+    Instant instant = Instant.ofEpochSecond(1000, 5);
+    assertSame(instant, converter.convert(instant, Instant.class, noFormat));
+  }
+
+  @Test
+  public void testBetweenJavaTimeTypes() {
+    ZonedDateTime dateTime = ZonedDateTime.of(2017, 3, 4, 5, 6, 7, 8, ZoneOffset.ofHours(2));
+
+    assertEquals(dateTime.toInstant(), converter.convert(dateTime, Instant.class, noFormat));
+    assertEquals(LocalDate.of(2017, 3, 4), converter.convert(dateTime, LocalDate.class, noFormat));
+    assertEquals(dateTime.toLocalDateTime(), converter.convert(dateTime, LocalDateTime.class, noFormat));
+    assertEquals(dateTime.toOffsetDateTime(), converter.convert(dateTime.toOffsetDateTime(), OffsetDateTime.class, noFormat));
+    assertEquals(LocalDate.of(2017, 3, 4).atStartOfDay(),
+        converter.convert(LocalDate.of(2017, 3, 4), LocalDateTime.class, noFormat));
+  }
+
+  @Test
+  public void testFromLegacyTypes() {
+    Instant instant = Instant.ofEpochMilli(123456789L);
+    Timestamp timestamp = Timestamp.from(Instant.ofEpochSecond(10, 123456789));
+    GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+    calendar.setTimeInMillis(123456789L);
+
+    assertEquals(instant, converter.convert(new Date(123456789L), Instant.class, noFormat));
+    assertEquals(instant, converter.convert(new java.sql.Date(123456789L), Instant.class, noFormat));
+    assertEquals(timestamp.toInstant(), converter.convert(timestamp, Instant.class, noFormat));
+    assertEquals(instant, converter.convert(123456789L, Instant.class, noFormat));
+    assertEquals(instant.atZone(ZoneId.of("UTC")), converter.convert(calendar, ZonedDateTime.class, noFormat));
+  }
+
+  @Test
+  public void testToLegacyTypes() {
+    Instant instant = Instant.ofEpochSecond(10, 123456789);
+    ZonedDateTime dateTime = instant.atZone(ZoneId.of("Europe/Riga"));
+
+    assertEquals(new Date(10123L), converter.convert(instant, Date.class, noFormat));
+    assertEquals(Timestamp.from(instant), converter.convert(instant, Timestamp.class, noFormat));
+    assertEquals(Long.valueOf(10123L), converter.convert(instant, Long.class, noFormat));
+    assertEquals(10123L, converter.convert(dateTime, long.class, noFormat));
+
+    Calendar calendar = (Calendar) converter.convert(dateTime, Calendar.class, noFormat);
+    assertEquals(10123L, calendar.getTimeInMillis());
+    assertEquals(TimeZone.getTimeZone("Europe/Riga"), calendar.getTimeZone());
+  }
+
+  @Test
+  public void testStringWithoutDateFormat() {
+    LocalDate date = LocalDate.of(2017, 3, 4);
+
+    assertEquals("2017-03-04", converter.convert(date, String.class, noFormat));
+    assertEquals(date, converter.convert("2017-03-04", LocalDate.class, noFormat));
+    assertEquals(Instant.ofEpochSecond(60), converter.convert("1970-01-01T00:01:00Z", Instant.class, noFormat));
+    assertNull(converter.convert("", LocalDate.class, noFormat));
+  }
+
+  @Test
+  public void testStringWithDateFormat() {
+    DateFormatContainer format = DateFormatContainer.forPattern("dd.MM.yyyy HH:mm");
+    LocalDateTime dateTime = LocalDateTime.of(2017, 3, 4, 5, 6);
+
+    assertEquals("04.03.2017 05:06", converter.convert(dateTime, String.class, format));
+    assertEquals(dateTime, converter.convert("04.03.2017 05:06", LocalDateTime.class, format));
+    assertEquals(LocalDate.of(2017, 3, 4), converter.convert("04.03.2017 05:06", LocalDate.class, format));
+    assertEquals(dateTime.atZone(ZoneId.systemDefault()).toInstant(),
+        converter.convert("04.03.2017 05:06", Instant.class, format));
+  }
+
+  @Test
+  public void testDateOnlyFormat() {
+    DateFormatContainer format = DateFormatContainer.forPattern("yyyy/MM/dd");
+
+    assertEquals(LocalDate.of(2017, 3, 4).atStartOfDay(ZoneId.systemDefault()),
+        converter.convert("2017/03/04", ZonedDateTime.class, format));
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testUnparseableString() {
+    converter.convert("yesterday", LocalDate.class, noFormat);
+  }
+
+  @Test(expected = ConversionException.class)
+  public void testFormatMissingFields() {
+    converter.convert(LocalDate.of(2017, 3, 4), String.class, DateFormatContainer.forPattern("HH:mm"));
+  }
+
+}
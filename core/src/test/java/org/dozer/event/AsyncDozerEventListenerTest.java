@@ -0,0 +1,268 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.DozerEventListener;
+import org.dozer.Mapper;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.vo.TestObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncDozerEventListenerTest extends Assert {
+
+  @Test
+  public void testDeliversEventsInOrder() {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).withCapacity(16).build();
+
+    for (int i = 0; i < 1000; i++) {
+      listener.postWritingDestinationValue(newEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE, i));
+    }
+    listener.close();
+
+    assertEquals(1000, listener.getPublishedCount());
+    assertEquals(1000, listener.getDeliveredCount());
+    assertEquals(0, listener.getDroppedCount());
+    assertEquals(0, listener.getLag());
+    assertEquals(1000, recorder.values.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, recorder.values.get(i));
+    }
+    assertNotSame(Thread.currentThread(), recorder.thread);
+  }
+
+  @Test
+  public void testWakesUpIdleDeliveryThread() throws Exception {
+    BlockingListener blocker = new BlockingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(blocker).build();
+    // give the delivery thread time to park without any event queued
+    Thread.sleep(50);
+
+    listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, 0));
+
+    assertTrue(blocker.started.await(5, TimeUnit.SECONDS));
+    blocker.release.countDown();
+    listener.close();
+    assertEquals(1, listener.getDeliveredCount());
+  }
+
+  @Test
+  public void testDropsWhenFull() throws Exception {
+    BlockingListener blocker = new BlockingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(blocker)
+        .withCapacity(2)
+        .withBackpressurePolicy(AsyncDozerEventListener.BackpressurePolicy.DROP)
+        .build();
+
+    listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, 0));
+    blocker.started.await();
+    for (int i = 1; i < 10; i++) {
+      listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, i));
+    }
+
+    assertEquals(3, listener.getPublishedCount());
+    assertEquals(7, listener.getDroppedCount());
+    assertEquals(3, listener.getLag());
+
+    blocker.release.countDown();
+    listener.close();
+
+    assertEquals(3, listener.getDeliveredCount());
+    assertEquals(0, listener.getLag());
+  }
+
+  @Test
+  public void testSamplesWhenBehind() throws Exception {
+    BlockingListener blocker = new BlockingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(blocker)
+        .withCapacity(8)
+        .withBackpressurePolicy(AsyncDozerEventListener.BackpressurePolicy.SAMPLE)
+        .withSampleRate(2)
+        .build();
+
+    listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, 0));
+    blocker.started.await();
+    for (int i = 1; i < 9; i++) {
+      listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, i));
+    }
+
+    // 4 events fill half of the buffer, then one of every 2 events is kept
+    assertEquals(7, listener.getPublishedCount());
+    assertEquals(2, listener.getDroppedCount());
+
+    blocker.release.countDown();
+    listener.close();
+
+    assertEquals(7, listener.getDeliveredCount());
+  }
+
+  @Test
+  public void testBlocksWhenFull() throws Exception {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).withCapacity(2).withBatchSize(1).build();
+
+    for (int i = 0; i < 100; i++) {
+      listener.mappingFinished(newEvent(DozerEventType.MAPPING_FINISHED, i));
+    }
+    listener.close();
+
+    assertEquals(100, recorder.values.size());
+    assertEquals(0, listener.getDroppedCount());
+  }
+
+  @Test
+  public void testSnapshotsMutableValues() {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).build();
+    List<String> mutable = new ArrayList<String>();
+
+    listener.preWritingDestinationValue(new DozerEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, null, null, "source",
+        mutable, 42));
+    listener.close();
+
+    DozerEvent event = recorder.events.get(0);
+    assertEquals("source", event.getSourceObject());
+    assertNull(event.getDestinationObject());
+    assertEquals(42, event.getDestinationValue());
+  }
+
+  @Test
+  public void testCustomSnapshot() {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).withSnapshot(String::valueOf).build();
+    List<String> mutable = new ArrayList<String>(Collections.singletonList("a"));
+
+    listener.mappingFinished(new DozerEvent(DozerEventType.MAPPING_FINISHED, null, null, null, mutable, null));
+    mutable.add("b");
+    listener.close();
+
+    assertEquals("[a]", recorder.events.get(0).getDestinationObject());
+  }
+
+  @Test
+  public void testConsumedEventTypes() {
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(new StartedListener()).build();
+    assertEquals(EnumSet.of(DozerEventType.MAPPING_STARTED), listener.getConsumedEventTypes());
+    listener.close();
+
+    listener = AsyncDozerEventListener.create(new RecordingListener()).build();
+    assertEquals(EnumSet.allOf(DozerEventType.class), listener.getConsumedEventTypes());
+    listener.close();
+  }
+
+  @Test
+  public void testDropsAfterClose() {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).build();
+    listener.close();
+
+    listener.mappingStarted(newEvent(DozerEventType.MAPPING_STARTED, 1));
+
+    assertEquals(1, listener.getDroppedCount());
+    assertTrue(recorder.values.isEmpty());
+  }
+
+  @Test
+  public void testListensToMapper() {
+    RecordingListener recorder = new RecordingListener();
+    AsyncDozerEventListener listener = AsyncDozerEventListener.create(recorder).build();
+    Mapper mapper = DozerBeanMapperBuilder.create().withEventListener(listener).build();
+    TestObject source = new TestObject();
+    source.setOne("one");
+
+    TestObject dest = mapper.map(source, TestObject.class);
+    listener.close();
+
+    assertEquals("one", dest.getOne());
+    assertEquals(DozerEventType.MAPPING_STARTED, recorder.events.get(0).getType());
+    assertEquals(DozerEventType.MAPPING_FINISHED, recorder.events.get(recorder.events.size() - 1).getType());
+    assertEquals(listener.getPublishedCount(), recorder.events.size());
+  }
+
+  @Test(expected = org.dozer.MappingException.class)
+  public void testInvalidCapacity() {
+    AsyncDozerEventListener.create(new RecordingListener()).withCapacity(0);
+  }
+
+  private static DozerEvent newEvent(DozerEventType type, int value) {
+    return new DozerEvent(type, null, null, value, null, null);
+  }
+
+  private static class RecordingListener implements DozerEventListener {
+
+    // only touched by the delivery thread until the listener is closed
+    private final List<DozerEvent> events = new ArrayList<DozerEvent>();
+    private final List<Object> values = new ArrayList<Object>();
+    private Thread thread;
+
+    private void record(DozerEvent event) {
+      thread = Thread.currentThread();
+      events.add(event);
+      values.add(event.getSourceObject());
+    }
+
+    public void mappingStarted(DozerEvent event) {
+      record(event);
+    }
+
+    public void preWritingDestinationValue(DozerEvent event) {
+      record(event);
+    }
+
+    public void postWritingDestinationValue(DozerEvent event) {
+      record(event);
+    }
+
+    public void mappingFinished(DozerEvent event) {
+      record(event);
+    }
+  }
+
+  private static class BlockingListener extends RecordingListener {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public void mappingStarted(DozerEvent event) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      super.mappingStarted(event);
+    }
+  }
+
+  private static class StartedListener extends RecordingListener implements SelectiveDozerEventListener {
+
+    public Set<DozerEventType> getConsumedEventTypes() {
+      return EnumSet.of(DozerEventType.MAPPING_STARTED);
+    }
+  }
+
+}
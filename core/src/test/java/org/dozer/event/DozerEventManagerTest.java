@@ -16,13 +16,18 @@
 package org.dozer.event;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.dozer.DozerEventListener;
+import org.dozer.SelectiveDozerEventListener;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,13 +42,13 @@ public class DozerEventManagerTest extends Assert {
   @Before
   public void setUp() throws Exception {
     listeners = new ArrayList<DozerEventListener>();
-    manager = new DozerEventManager(listeners);
   }
 
   @Test
   public void testFireEvent_NoListeners() throws Exception {
     DozerEventListener listener = mock(DozerEventListener.class);
     listeners.add(listener);
+    manager = new DozerEventManager(listeners);
 
     DozerEvent dozerEvent = mock(DozerEvent.class);
     when(dozerEvent.getType()).thenReturn(DozerEventType.MAPPING_STARTED);
@@ -53,5 +58,76 @@ public class DozerEventManagerTest extends Assert {
     verify(listener).mappingStarted(dozerEvent);
   }
 
+  @Test
+  public void testFireEvent_WithoutListeners() throws Exception {
+    manager = new DozerEventManager(null);
+
+    assertFalse(manager.hasListeners(DozerEventType.MAPPING_STARTED));
+    manager.fireEvent(DozerEventType.MAPPING_STARTED, null, null, "source", null, null);
+  }
+
+  @Test
+  public void testFireEvent_SelectiveListener() throws Exception {
+    DozerEventListener listener = mock(DozerEventListener.class);
+    StartedListener startedListener = new StartedListener();
+    listeners.add(listener);
+    listeners.add(startedListener);
+    manager = new DozerEventManager(listeners);
+
+    manager.fireEvent(DozerEventType.MAPPING_STARTED, null, null, "source", null, null);
+    manager.fireEvent(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE, null, null, "source", null, null);
+
+    assertEquals(1, startedListener.started);
+    verify(listener).mappingStarted(any(DozerEvent.class));
+    verify(listener).preWritingDestinationValue(any(DozerEvent.class));
+  }
+
+  @Test
+  public void testFireEvent_NotConsumed() throws Exception {
+    listeners.add(new StartedListener());
+    manager = new DozerEventManager(listeners);
+
+    assertTrue(manager.hasListeners(DozerEventType.MAPPING_STARTED));
+    assertFalse(manager.hasListeners(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE));
+    assertFalse(manager.hasListeners(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE));
+    assertFalse(manager.hasListeners(DozerEventType.MAPPING_FINISHED));
+  }
+
+  @Test
+  public void testFireEvent_ListenersResolvedOnce() throws Exception {
+    manager = new DozerEventManager(listeners);
+    DozerEventListener listener = mock(DozerEventListener.class);
+    listeners.add(listener);
+
+    manager.fireEvent(DozerEventType.MAPPING_STARTED, null, null, "source", null, null);
+
+    verify(listener, never()).mappingStarted(any(DozerEvent.class));
+  }
+
+  private static class StartedListener implements SelectiveDozerEventListener {
+
+    private int started;
+
+    public Set<DozerEventType> getConsumedEventTypes() {
+      return EnumSet.of(DozerEventType.MAPPING_STARTED);
+    }
+
+    public void mappingStarted(DozerEvent event) {
+      started++;
+    }
+
+    public void preWritingDestinationValue(DozerEvent event) {
+      fail("not consumed");
+    }
+
+    public void postWritingDestinationValue(DozerEvent event) {
+      fail("not consumed");
+    }
+
+    public void mappingFinished(DozerEvent event) {
+      fail("not consumed");
+    }
+  }
+
 
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventRingBufferTest extends Assert {
+
+  @Test
+  public void testCapacityIsPowerOfTwo() {
+    assertEquals(2, new EventRingBuffer(1).capacity());
+    assertEquals(4, new EventRingBuffer(3).capacity());
+    assertEquals(4, new EventRingBuffer(4).capacity());
+    assertEquals(1024, new EventRingBuffer(1000).capacity());
+  }
+
+  @Test
+  public void testOfferAndPollInOrder() {
+    EventRingBuffer buffer = new EventRingBuffer(2);
+    DozerEvent first = newEvent("first");
+    DozerEvent second = newEvent("second");
+
+    assertNull(buffer.poll());
+    assertTrue(buffer.offer(first));
+    assertTrue(buffer.offer(second));
+    assertFalse(buffer.offer(newEvent("third")));
+    assertEquals(2, buffer.size());
+
+    assertSame(first, buffer.poll());
+    assertTrue(buffer.offer(newEvent("third")));
+    assertSame(second, buffer.poll());
+    assertEquals("third", buffer.poll().getSourceObject());
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  public void testConcurrentProducers() throws Exception {
+    final EventRingBuffer buffer = new EventRingBuffer(64);
+    final int perProducer = 10000;
+    List<Thread> producers = new ArrayList<Thread>();
+    for (int p = 0; p < 4; p++) {
+      final int producer = p;
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          DozerEvent event = newEvent(producer * perProducer + i);
+          while (!buffer.offer(event)) {
+            Thread.yield();
+          }
+        }
+      });
+      producers.add(thread);
+      thread.start();
+    }
+
+    boolean[] seen = new boolean[4 * perProducer];
+    int[] last = {-1, -1, -1, -1};
+    int received = 0;
+    while (received < seen.length) {
+      DozerEvent event = buffer.poll();
+      if (event == null) {
+        Thread.yield();
+        continue;
+      }
+      int value = (Integer) event.getSourceObject();
+      assertFalse(seen[value]);
+      seen[value] = true;
+      // events of one producer keep their order
+      assertTrue(value > last[value / perProducer]);
+      last[value / perProducer] = value;
+      received++;
+    }
+    for (Thread thread : producers) {
+      thread.join();
+    }
+    assertNull(buffer.poll());
+  }
+
+  private static DozerEvent newEvent(Object source) {
+    return new DozerEvent(DozerEventType.MAPPING_STARTED, null, null, source, null, null);
+  }
+
+}
@@ -197,6 +197,36 @@ public class ConstructionStrategiesTest extends AbstractDozerTest {
         assertEquals("", byConstructor.create(directive));
     }
 
+    @Test
+    public void shouldCreateNewInstancesByCachedConstructor() {
+        directive.setTargetClass(ArrayList.class);
+        Object first = byConstructor.create(directive);
+        Object second = byConstructor.create(directive);
+
+        assertTrue(first instanceof ArrayList);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldFallBackToAlternateClassWithCachedConstructor() {
+        directive.setTargetClass(List.class);
+        directive.setAlternateClass(ArrayList.class);
+
+        assertTrue(byConstructor.create(directive) instanceof ArrayList);
+        assertTrue(byConstructor.create(directive) instanceof ArrayList);
+    }
+
+    @Test
+    public void shouldReuseStaticCreateMethod() {
+        directive.setTargetClass(SelfFactory.class);
+        directive.setCreateMethod("create");
+        Object first = byCreateMethod.create(directive);
+        Object second = byCreateMethod.create(directive);
+
+        assertTrue(second instanceof SelfFactory);
+        assertNotSame(first, second);
+    }
+
     @Test(expected = MappingException.class)
     public void shouldFailToFindConstructor() {
         directive.setTargetClass(SelfFactory.class);
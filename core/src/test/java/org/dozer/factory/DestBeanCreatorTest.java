@@ -24,6 +24,7 @@ import org.dozer.config.BeanContainer;
 import org.dozer.vo.TestObject;
 import org.dozer.vo.TestObjectPrime;
 import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
 
 /**
  * @author tierney.matt
@@ -59,5 +60,29 @@ public class DestBeanCreatorTest extends AbstractDozerTest {
     assertNotNull(treeMap);
   }
 
+  @Test
+  public void testResolvesStrategyPerClassAndFlags() {
+    BeanCreationDirective byConstructor = new BeanCreationDirective(null, null, TestObject.class, null, null, null, null, null);
+    BeanCreationDirective skipConstructor = new BeanCreationDirective(null, null, TestObject.class, null, null, null, null, true);
+    String factoryName = "org.dozer.functional_tests.support.SampleCustomBeanFactory";
+    BeanCreationDirective byFactory = new BeanCreationDirective(new TestObjectPrime(), TestObjectPrime.class, TestObject.class,
+        null, factoryName, null, null, null);
+
+    for (int i = 0; i < 2; i++) {
+      assertNull(((TestObject) destBeanCreator.create(byConstructor)).getCreatedByFactoryName());
+      assertNull(((TestObject) destBeanCreator.create(skipConstructor)).getCreatedByFactoryName());
+      assertEquals(factoryName, ((TestObject) destBeanCreator.create(byFactory)).getCreatedByFactoryName());
+    }
+    Map<?, ?> resolvedStrategies = (Map<?, ?>) Whitebox.getInternalState(destBeanCreator, "resolvedStrategies");
+    assertEquals(1, resolvedStrategies.size());
+    int resolvedCount = 0;
+    for (Object strategy : (Object[]) resolvedStrategies.get(TestObject.class)) {
+      if (strategy != null) {
+        resolvedCount++;
+      }
+    }
+    assertEquals(3, resolvedCount);
+  }
+
 
 }
@@ -16,6 +16,8 @@
 package org.dozer.fieldmap;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -131,5 +133,87 @@ public class FieldMapTest extends AbstractDozerTest {
     assertFalse(fieldMap.isDestFieldAccessible());
   }
 
+  @Test
+  public void shouldCacheCollectionMappingPlan() {
+    when(field.getName()).thenReturn("values");
+    fieldMap.setSrcField(field);
+
+    CollectionMappingPlan plan = fieldMap.getCollectionMappingPlan(Holder.class);
+
+    assertSame(plan, fieldMap.getCollectionMappingPlan(Holder.class));
+    assertNotSame(fieldMap, plan.getElementFieldMap());
+    assertEquals(String.class, plan.getElementFieldMap().getDestHintContainer().getHint());
+    assertNull(fieldMap.getDestHintContainer());
+    assertTrue(plan.isDestList(ArrayList.class));
+    assertFalse(plan.isDestSet(ArrayList.class));
+    assertFalse(plan.isDestArray());
+  }
+
+  @Test
+  public void shouldKeepConfiguredHintInCollectionMappingPlan() {
+    when(field.getName()).thenReturn("values");
+    fieldMap.setSrcField(field);
+    HintContainer hintContainer = new HintContainer(new BeanContainer());
+    hintContainer.setHintName(Integer.class.getName());
+    fieldMap.setDestHintContainer(hintContainer);
+
+    CollectionMappingPlan plan = fieldMap.getCollectionMappingPlan(Holder.class);
+
+    assertSame(fieldMap, plan.getElementFieldMap());
+    assertEquals(Integer.class, plan.getElementFieldMap().getDestHintContainer().getHint());
+  }
+
+  @Test
+  public void shouldResolveGenericCollectionBySource() {
+    when(field.getName()).thenReturn("items");
+    fieldMap.setSrcField(field);
+
+    CollectionMappingPlan plan = fieldMap.getCollectionMappingPlan(Holder.class);
+
+    assertTrue(plan.isDestSet(HashSet.class));
+    assertFalse(plan.isDestList(HashSet.class));
+    assertTrue(plan.isDestList(ArrayList.class));
+  }
+
+  @Test
+  public void shouldCacheMappingStrategyPerClasses() {
+    final List<Class<?>> resolved = new ArrayList<Class<?>>();
+    FieldMappingStrategy.Resolver resolver = new FieldMappingStrategy.Resolver() {
+      public FieldMappingStrategy resolve(FieldMap fieldMap, Class<?> srcFieldClass, Class<?> destFieldType) {
+        resolved.add(srcFieldClass);
+        return new FieldMappingStrategy(FieldMappingStrategy.Kind.PRIMITIVE, destFieldType, null, true);
+      }
+    };
+
+    FieldMappingStrategy strategy = fieldMap.getMappingStrategy(Integer.class, Long.class, resolver);
+
+    assertSame(strategy, fieldMap.getMappingStrategy(Integer.class, Long.class, resolver));
+    assertNotSame(strategy, fieldMap.getMappingStrategy(Integer.class, String.class, resolver));
+    assertNotSame(strategy, fieldMap.getMappingStrategy(Short.class, Long.class, resolver));
+    assertEquals(3, resolved.size());
+    assertNotSame(strategy, ((FieldMap) fieldMap.clone()).getMappingStrategy(Integer.class, Long.class, resolver));
+  }
+
+  public static class Holder {
+
+    private List<String> values;
+    private Collection<String> items;
+
+    public List<String> getValues() {
+      return values;
+    }
+
+    public void setValues(List<String> values) {
+      this.values = values;
+    }
+
+    public Collection<String> getItems() {
+      return items;
+    }
+
+    public void setItems(Collection<String> items) {
+      this.items = items;
+    }
+  }
 
 }
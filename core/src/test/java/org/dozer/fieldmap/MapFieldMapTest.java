@@ -15,13 +15,18 @@
  */
 package org.dozer.fieldmap;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.dozer.AbstractDozerTest;
+import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
 import org.dozer.config.BeanContainer;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
 import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
 
 import static org.mockito.Mockito.mock;
 
@@ -72,4 +77,39 @@ public class MapFieldMapTest extends AbstractDozerTest {
     assertEquals(source.getType(), result.getType());
   }
 
+  @Test
+  public void testReusesDescriptors() {
+    MapFieldMap fieldMap = new MapFieldMap(mock(ClassMap.class), beanContainer, destBeanCreator, propertyDescriptorFactory);
+    DozerField srcField = new DozerField("attributes", "generic");
+    srcField.setKey("name");
+    srcField.setAccessible(false);
+    fieldMap.setSrcField(srcField);
+    fieldMap.setDestField(new DozerField("name", "generic"));
+    Holder holder = new Holder();
+    holder.getAttributes().put("name", "value");
+
+    assertEquals("value", fieldMap.getSrcFieldValue(holder));
+    Map<?, ?> descriptors = (Map<?, ?>) Whitebox.getInternalState(fieldMap, "srcMapDescriptors");
+    Object descriptor = descriptors.get(Map.class);
+    assertNotNull(descriptor);
+
+    holder.getAttributes().put("name", "changed");
+    assertEquals("changed", fieldMap.getSrcFieldValue(holder));
+    assertSame(descriptor, descriptors.get(Map.class));
+    assertEquals(1, descriptors.size());
+  }
+
+  public static class Holder {
+
+    private Map<String, Object> attributes = new HashMap<String, Object>();
+
+    public Map<String, Object> getAttributes() {
+      return attributes;
+    }
+
+    public void setAttributes(Map<String, Object> attributes) {
+      this.attributes = attributes;
+    }
+  }
+
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.SelectiveDozerEventListener;
+import org.dozer.config.SettingsKeys;
+import org.dozer.event.DozerEvent;
+import org.dozer.event.DozerEventType;
+import org.dozer.vo.AnotherTestObject;
+import org.dozer.vo.AnotherTestObjectPrime;
+import org.dozer.vo.SimpleObj;
+import org.dozer.vo.SimpleObjPrime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs mappings with compiled class maps enabled, results have to be the same as for the interpreted engine.
+ */
+public class CompiledClassMapTest extends AbstractFunctionalTest {
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty(SettingsKeys.COMPILED_CLASS_MAPS_ENABLED, "true");
+    super.setUp();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(SettingsKeys.COMPILED_CLASS_MAPS_ENABLED);
+  }
+
+  @Test
+  public void testSameClassMapping() {
+    SimpleObj src = newInstance(SimpleObj.class);
+    src.setField1("one");
+    src.setField2(2);
+    src.setField3(new BigDecimal("3"));
+    src.setField4(4d);
+    src.setField5(Calendar.getInstance());
+    src.setField7(Boolean.TRUE);
+
+    SimpleObj dest = mapper.map(src, SimpleObj.class);
+
+    assertEquals(src.getField1(), dest.getField1());
+    assertEquals(src.getField2(), dest.getField2());
+    assertEquals(src.getField3(), dest.getField3());
+    assertEquals(src.getField4(), dest.getField4());
+    assertEquals(src.getField5(), dest.getField5());
+    assertEquals(null, dest.getField6());
+    assertEquals(src.getField7(), dest.getField7());
+    assertNotSame(src.getField5(), dest.getField5());
+  }
+
+  @Test
+  public void testConvertedFieldsStillMapped() {
+    SimpleObj src = newInstance(SimpleObj.class);
+    src.setField1("one");
+    src.setField2(2);
+    src.setField4(4d);
+
+    SimpleObjPrime dest = mapper.map(src, SimpleObjPrime.class);
+
+    assertEquals("one", dest.getField1());
+    assertEquals("2", dest.getField2());
+    assertEquals("4.0", dest.getField4());
+  }
+
+  @Test
+  public void testTrimStrings() {
+    mapper = getMapper("mappings/trimStringsMapping.xml");
+    AnotherTestObject src = newInstance(AnotherTestObject.class);
+    src.setField3("      valueNeedingTrimmed       ");
+    src.setField5("  127 ");
+
+    AnotherTestObjectPrime dest = mapper.map(src, AnotherTestObjectPrime.class);
+
+    assertEquals("valueNeedingTrimmed", dest.getField3());
+    assertEquals(Integer.valueOf("127"), dest.getField5());
+  }
+
+  @Test
+  public void testWritingListenersReceiveEvents() {
+    CountingListener listener = new CountingListener(EnumSet.of(DozerEventType.MAPPING_PRE_WRITING_DEST_VALUE));
+    mapper = DozerBeanMapperBuilder.create().withEventListener(listener).build();
+    SimpleObj src = newInstance(SimpleObj.class);
+    src.setField1("one");
+
+    SimpleObj dest = mapper.map(src, SimpleObj.class);
+
+    assertEquals("one", dest.getField1());
+    assertNull(Whitebox.getInternalState(Whitebox.getInternalState(mapper, "mappingProcessorFactory"), "classMapCompiler"));
+    assertTrue(listener.count.get() > 0);
+  }
+
+  @Test
+  public void testOtherListenersKeepCompiledMappings() {
+    CountingListener listener = new CountingListener(EnumSet.of(DozerEventType.MAPPING_STARTED));
+    mapper = DozerBeanMapperBuilder.create().withEventListener(listener).build();
+
+    mapper.map(newInstance(SimpleObj.class), SimpleObj.class);
+
+    assertNotNull(Whitebox.getInternalState(Whitebox.getInternalState(mapper, "mappingProcessorFactory"), "classMapCompiler"));
+    assertEquals(1, listener.count.get());
+  }
+
+  private static class CountingListener implements SelectiveDozerEventListener {
+
+    private final Set<DozerEventType> consumedEventTypes;
+    private final AtomicInteger count = new AtomicInteger();
+
+    CountingListener(Set<DozerEventType> consumedEventTypes) {
+      this.consumedEventTypes = consumedEventTypes;
+    }
+
+    public Set<DozerEventType> getConsumedEventTypes() {
+      return consumedEventTypes;
+    }
+
+    public void mappingStarted(DozerEvent event) {
+      count.incrementAndGet();
+    }
+
+    public void preWritingDestinationValue(DozerEvent event) {
+      count.incrementAndGet();
+    }
+
+    public void postWritingDestinationValue(DozerEvent event) {
+      count.incrementAndGet();
+    }
+
+    public void mappingFinished(DozerEvent event) {
+      count.incrementAndGet();
+    }
+  }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Immutable;
+import org.dozer.Mapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Test;
+
+import static org.dozer.loader.api.TypeMappingOptions.trimStrings;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ImmutableValueMappingTest extends AbstractFunctionalTest {
+
+  @Test
+  public void shouldShareImmutableValues() {
+    Mapper beanMapper = DozerBeanMapperBuilder.buildDefault();
+    Order source = newOrder();
+
+    Order dest = beanMapper.map(source, Order.class);
+
+    assertSame(source.getTotal(), dest.getTotal());
+    assertSame(source.getDiscount(), dest.getDiscount());
+    assertNotSame(source.getItems(), dest.getItems());
+    assertEquals(2, dest.getItems().size());
+    assertSame(source.getItems().get(0), dest.getItems().get(0));
+    assertSame(source.getItems().get(1), dest.getItems().get(1));
+  }
+
+  @Test
+  public void shouldStillTrimStrings() {
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+              @Override
+              protected void configure() {
+                mapping(Order.class, Order.class, trimStrings());
+              }
+            })
+            .build();
+    Order source = newOrder();
+    source.setReference(" ref ");
+
+    Order dest = beanMapper.map(source, Order.class);
+
+    assertEquals("ref", dest.getReference());
+    assertSame(source.getTotal(), dest.getTotal());
+  }
+
+  @Test
+  public void shouldApplyConfiguredMapping() {
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+              @Override
+              protected void configure() {
+                mapping(Amount.class, Amount.class)
+                        .fields(field("value").accessible(), field("value").accessible());
+              }
+            })
+            .build();
+    Order source = newOrder();
+
+    Order dest = beanMapper.map(source, Order.class);
+
+    assertNotSame(source.getTotal(), dest.getTotal());
+    assertEquals(source.getTotal().getValue(), dest.getTotal().getValue());
+    assertSame(source.getDiscount(), dest.getDiscount());
+  }
+
+  private Order newOrder() {
+    Order order = new Order();
+    order.setReference("ref");
+    order.setTotal(new Amount(new BigDecimal("10.50")));
+    order.setDiscount(new BigDecimal("0.10"));
+    order.setItems(new ArrayList<Amount>(Arrays.asList(new Amount(BigDecimal.ONE), new Amount(BigDecimal.TEN))));
+    return order;
+  }
+
+  @Immutable
+  public static class Amount {
+
+    private final BigDecimal value;
+
+    public Amount() {
+      this(null);
+    }
+
+    public Amount(BigDecimal value) {
+      this.value = value;
+    }
+
+    public BigDecimal getValue() {
+      return value;
+    }
+  }
+
+  public static class Order {
+
+    private String reference;
+    private Amount total;
+    private BigDecimal discount;
+    private List<Amount> items;
+
+    public String getReference() {
+      return reference;
+    }
+
+    public void setReference(String reference) {
+      this.reference = reference;
+    }
+
+    public Amount getTotal() {
+      return total;
+    }
+
+    public void setTotal(Amount total) {
+      this.total = total;
+    }
+
+    public BigDecimal getDiscount() {
+      return discount;
+    }
+
+    public void setDiscount(BigDecimal discount) {
+      this.discount = discount;
+    }
+
+    public List<Amount> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Amount> items) {
+      this.items = items;
+    }
+  }
+
+}
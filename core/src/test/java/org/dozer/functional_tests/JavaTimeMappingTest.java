@@ -0,0 +1,135 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Mapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Test;
+
+import static org.dozer.loader.api.TypeMappingOptions.dateFormat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class JavaTimeMappingTest extends AbstractFunctionalTest {
+
+  @Test
+  public void shouldKeepJavaTimeValues() {
+    Mapper beanMapper = DozerBeanMapperBuilder.buildDefault();
+    Event source = new Event();
+    source.setCreated(Instant.ofEpochSecond(1500000000L));
+    source.setDay(LocalDate.of(2017, 7, 14));
+
+    Event dest = beanMapper.map(source, Event.class);
+
+    assertSame(source.getCreated(), dest.getCreated());
+    assertSame(source.getDay(), dest.getDay());
+  }
+
+  @Test
+  public void shouldConvertJavaTimeValues() {
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+              @Override
+              protected void configure() {
+                mapping(Event.class, EventDto.class, dateFormat("yyyy-MM-dd"));
+              }
+            })
+            .build();
+    Event source = new Event();
+    source.setCreated(Instant.ofEpochSecond(1500000000L));
+    source.setDay(LocalDate.of(2017, 7, 14));
+
+    EventDto dest = beanMapper.map(source, EventDto.class);
+
+    assertEquals(new Date(1500000000000L), dest.getCreated());
+    assertEquals("2017-07-14", dest.getDay());
+
+    Event back = beanMapper.map(dest, Event.class);
+
+    assertEquals(source.getCreated(), back.getCreated());
+    assertEquals(source.getDay(), back.getDay());
+  }
+
+  @Test
+  public void shouldParseDateOnlyFormat() {
+    Mapper beanMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+              @Override
+              protected void configure() {
+                mapping(EventDto.class, Event.class, dateFormat("yyyy-MM-dd"));
+              }
+            })
+            .build();
+    EventDto source = new EventDto();
+    source.setDay("2017-07-14");
+    source.setCreated(new Date(1500000000000L));
+
+    Event dest = beanMapper.map(source, Event.class);
+
+    assertEquals(LocalDate.of(2017, 7, 14), dest.getDay());
+    assertEquals(Instant.ofEpochSecond(1500000000L), dest.getCreated());
+  }
+
+  public static class Event {
+
+    private Instant created;
+    private LocalDate day;
+
+    public Instant getCreated() {
+      return created;
+    }
+
+    public void setCreated(Instant created) {
+      this.created = created;
+    }
+
+    public LocalDate getDay() {
+      return day;
+    }
+
+    public void setDay(LocalDate day) {
+      this.day = day;
+    }
+  }
+
+  public static class EventDto {
+
+    private Date created;
+    private String day;
+
+    public Date getCreated() {
+      return created;
+    }
+
+    public void setCreated(Date created) {
+      this.created = created;
+    }
+
+    public String getDay() {
+      return day;
+    }
+
+    public void setDay(String day) {
+      this.day = day;
+    }
+  }
+
+}
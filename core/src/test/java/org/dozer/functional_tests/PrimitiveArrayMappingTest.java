@@ -0,0 +1,201 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Mapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveArrayMappingTest extends AbstractFunctionalTest {
+
+  private Mapper beanMapper;
+
+  @Before
+  public void setUp() {
+    beanMapper = DozerBeanMapperBuilder.buildDefault();
+  }
+
+  @Test
+  public void shouldWidenPrimitiveArray() {
+    Series source = new Series();
+    source.setWidened(new int[] {1, -2, Integer.MAX_VALUE});
+
+    SeriesDto dest = beanMapper.map(source, SeriesDto.class);
+
+    assertArrayEquals(new long[] {1, -2, Integer.MAX_VALUE}, dest.getWidened());
+  }
+
+  @Test
+  public void shouldAppendToExistingPrimitiveArray() {
+    Series source = new Series();
+    source.setWidened(new int[] {2, 3});
+    SeriesDto dest = new SeriesDto();
+    dest.setWidened(new long[] {1});
+
+    beanMapper.map(source, dest);
+
+    assertArrayEquals(new long[] {1, 2, 3}, dest.getWidened());
+  }
+
+  @Test
+  public void shouldCopySamePrimitiveArray() {
+    Series source = new Series();
+    source.setSamples(new double[] {0.5, 1.5});
+
+    SeriesDto dest = beanMapper.map(source, SeriesDto.class);
+
+    assertArrayEquals(new double[] {0.5, 1.5}, dest.getSamples(), 0);
+  }
+
+  @Test
+  public void shouldBoxPrimitiveArrayToList() {
+    Series source = new Series();
+    source.setBoxed(new int[] {1, 2});
+    SeriesDto dest = new SeriesDto();
+    dest.setBoxed(new ArrayList<Integer>(Arrays.asList(0)));
+
+    beanMapper.map(source, dest);
+
+    assertEquals(Arrays.asList(0, 1, 2), dest.getBoxed());
+  }
+
+  @Test
+  public void shouldUnboxListToPrimitiveArray() {
+    Series source = new Series();
+    source.setUnboxed(Arrays.asList(3, 4));
+
+    SeriesDto dest = beanMapper.map(source, SeriesDto.class);
+
+    assertArrayEquals(new int[] {3, 4}, dest.getUnboxed());
+  }
+
+  @Test
+  public void shouldConvertListOfOtherTypeToPrimitiveArray() {
+    Series source = new Series();
+    source.setConverted(Arrays.asList("5", "6"));
+
+    SeriesDto dest = beanMapper.map(source, SeriesDto.class);
+
+    assertArrayEquals(new long[] {5, 6}, dest.getConverted());
+  }
+
+  public static class Series {
+
+    private int[] widened;
+    private double[] samples;
+    private int[] boxed;
+    private List<Integer> unboxed;
+    private List<String> converted;
+
+    public int[] getWidened() {
+      return widened;
+    }
+
+    public void setWidened(int[] widened) {
+      this.widened = widened;
+    }
+
+    public double[] getSamples() {
+      return samples;
+    }
+
+    public void setSamples(double[] samples) {
+      this.samples = samples;
+    }
+
+    public int[] getBoxed() {
+      return boxed;
+    }
+
+    public void setBoxed(int[] boxed) {
+      this.boxed = boxed;
+    }
+
+    public List<Integer> getUnboxed() {
+      return unboxed;
+    }
+
+    public void setUnboxed(List<Integer> unboxed) {
+      this.unboxed = unboxed;
+    }
+
+    public List<String> getConverted() {
+      return converted;
+    }
+
+    public void setConverted(List<String> converted) {
+      this.converted = converted;
+    }
+  }
+
+  public static class SeriesDto {
+
+    private long[] widened;
+    private double[] samples;
+    private List<Integer> boxed;
+    private int[] unboxed;
+    private long[] converted;
+
+    public long[] getWidened() {
+      return widened;
+    }
+
+    public void setWidened(long[] widened) {
+      this.widened = widened;
+    }
+
+    public double[] getSamples() {
+      return samples;
+    }
+
+    public void setSamples(double[] samples) {
+      this.samples = samples;
+    }
+
+    public List<Integer> getBoxed() {
+      return boxed;
+    }
+
+    public void setBoxed(List<Integer> boxed) {
+      this.boxed = boxed;
+    }
+
+    public int[] getUnboxed() {
+      return unboxed;
+    }
+
+    public void setUnboxed(int[] unboxed) {
+      this.unboxed = unboxed;
+    }
+
+    public long[] getConverted() {
+      return converted;
+    }
+
+    public void setConverted(long[] converted) {
+      this.converted = converted;
+    }
+  }
+
+}
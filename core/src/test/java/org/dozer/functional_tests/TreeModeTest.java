@@ -0,0 +1,125 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.functional_tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.config.SettingsKeys;
+import org.dozer.vo.TestObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Runs mappings without tracking mapped objects, which is only valid for graphs without cycles.
+ */
+public class TreeModeTest extends AbstractFunctionalTest {
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty(SettingsKeys.TREE_MODE_ENABLED, "true");
+    super.setUp();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(SettingsKeys.TREE_MODE_ENABLED);
+  }
+
+  @Test
+  public void testMapsTree() {
+    List<TestObject> children = new ArrayList<TestObject>();
+    for (int i = 0; i < 100; i++) {
+      TestObject child = newInstance(TestObject.class);
+      child.setOne("child" + i);
+      children.add(child);
+    }
+    Holder src = new Holder();
+    src.setChildren(children);
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertEquals(100, dest.getChildren().size());
+    assertEquals("child99", dest.getChildren().get(99).getOne());
+    assertNotSame(children.get(0), dest.getChildren().get(0));
+  }
+
+  @Test
+  public void testSharedReferencesAreMappedTwice() {
+    TestObject shared = newInstance(TestObject.class);
+    shared.setOne("shared");
+    Holder src = new Holder();
+    src.setFirst(shared);
+    src.setSecond(shared);
+
+    Holder dest = mapper.map(src, Holder.class);
+
+    assertEquals("shared", dest.getFirst().getOne());
+    assertEquals("shared", dest.getSecond().getOne());
+    assertNotSame(dest.getFirst(), dest.getSecond());
+  }
+
+  @Test
+  public void testSharedReferencesKeptWithoutTreeMode() {
+    System.clearProperty(SettingsKeys.TREE_MODE_ENABLED);
+    TestObject shared = newInstance(TestObject.class);
+    Holder src = new Holder();
+    src.setFirst(shared);
+    src.setSecond(shared);
+
+    Holder dest = getMapper(new String[0]).map(src, Holder.class);
+
+    assertSame(dest.getFirst(), dest.getSecond());
+  }
+
+  public static class Holder {
+
+    private TestObject first;
+    private TestObject second;
+    private List<TestObject> children;
+
+    public TestObject getFirst() {
+      return first;
+    }
+
+    public void setFirst(TestObject first) {
+      this.first = first;
+    }
+
+    public TestObject getSecond() {
+      return second;
+    }
+
+    public void setSecond(TestObject second) {
+      this.second = second;
+    }
+
+    public List<TestObject> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<TestObject> children) {
+      this.children = children;
+    }
+  }
+
+}
@@ -88,6 +88,25 @@ public class CustomMappingsLoaderTest extends AbstractDozerTest{
             customConverters.get(0).getType().equals(CustomMappingsLoader.ByReferenceConverter.class));
   }
 
+  @Test
+  public void testLoad_SharesDefaultUUIDConverter() {
+    Configuration configuration = new Configuration();
+    MappingFileData mappingFileData = new MappingFileData();
+    mappingFileData.setConfiguration(configuration);
+    data.add(mappingFileData);
+
+    loader.load(data);
+
+    assertEquals(CustomMappingsLoader.ByReferenceConverter.class,
+            configuration.getCustomConverters().findConverter(UUID.class, UUID.class));
+    try {
+      configuration.getCustomConverters().addConverter(new CustomConverterDescription());
+      fail("shared converters should not be modifiable");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+
   private MappingFileData createMappingData(boolean hasConfiguration) {
     MappingFileData mappingFileData = new MappingFileData();
     if (hasConfiguration) {
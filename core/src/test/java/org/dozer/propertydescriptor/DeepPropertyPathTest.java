@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.config.BeanContainer;
+import org.dozer.factory.DestBeanCreator;
+import org.dozer.fieldmap.FieldMap;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+
+import static org.mockito.Mockito.mock;
+
+public class DeepPropertyPathTest extends AbstractDozerTest {
+
+  @Test
+  public void testGetValue() {
+    DeepPropertyPath path = DeepPropertyPath.compile(Outer.class, "middle.inner.value", null, PropertyAccessorType.REFLECTION);
+    Outer outer = new Outer();
+
+    assertEquals(3, path.length());
+    assertNull(path.getValue(outer));
+
+    outer.setMiddle(new Middle());
+    assertNull(path.getValue(outer));
+
+    outer.getMiddle().setInner(new Inner("value"));
+    assertEquals("value", path.getValue(outer));
+  }
+
+  @Test
+  public void testGetIndexedValue() {
+    Outer outer = new Outer();
+    outer.setMiddles(Arrays.asList(new Middle(), new Middle()));
+    outer.getMiddles().get(1).setInner(new Inner("list"));
+    outer.setMiddleArray(new Middle[] {new Middle()});
+    outer.getMiddleArray()[0].setInner(new Inner("array"));
+
+    assertEquals("list", DeepPropertyPath.compile(Outer.class, "middles[1].inner.value", null,
+        PropertyAccessorType.METHOD_HANDLE).getValue(outer));
+    assertEquals("array", DeepPropertyPath.compile(Outer.class, "middleArray[0].inner.value", null,
+        PropertyAccessorType.METHOD_HANDLE).getValue(outer));
+    assertNull(DeepPropertyPath.compile(Outer.class, "middles[2].inner.value", null,
+        PropertyAccessorType.METHOD_HANDLE).getValue(outer));
+  }
+
+  @Test
+  public void testIsCompiledFor() {
+    DeepPropertyPath path = DeepPropertyPath.compile(Outer.class, "middle.inner", null, PropertyAccessorType.REFLECTION);
+
+    assertTrue(path.isCompiledFor(Outer.class, null));
+    assertFalse(path.isCompiledFor(Middle.class, null));
+  }
+
+  @Test
+  public void testDescriptorReusesPath() {
+    BeanContainer beanContainer = new BeanContainer();
+    JavaBeanPropertyDescriptor descriptor = new JavaBeanPropertyDescriptor(Outer.class, "middle.inner.value", false, -1,
+        null, null, beanContainer, new DestBeanCreator(beanContainer));
+    Outer outer = new Outer();
+
+    descriptor.setPropertyValue(outer, "created", mock(FieldMap.class));
+    Object path = Whitebox.getInternalState(descriptor, "destDeepPath");
+    descriptor.setPropertyValue(outer, "written", mock(FieldMap.class));
+
+    assertSame(path, Whitebox.getInternalState(descriptor, "destDeepPath"));
+    assertEquals("written", outer.getMiddle().getInner().getValue());
+
+    assertEquals("written", descriptor.getPropertyValue(outer));
+    path = Whitebox.getInternalState(descriptor, "srcDeepPath");
+    assertEquals("written", descriptor.getPropertyValue(outer));
+    assertSame(path, Whitebox.getInternalState(descriptor, "srcDeepPath"));
+  }
+
+  public static class Outer {
+
+    private Middle middle;
+    private List<Middle> middles = new ArrayList<Middle>();
+    private Middle[] middleArray;
+
+    public Middle getMiddle() {
+      return middle;
+    }
+
+    public void setMiddle(Middle middle) {
+      this.middle = middle;
+    }
+
+    public List<Middle> getMiddles() {
+      return middles;
+    }
+
+    public void setMiddles(List<Middle> middles) {
+      this.middles = middles;
+    }
+
+    public Middle[] getMiddleArray() {
+      return middleArray;
+    }
+
+    public void setMiddleArray(Middle[] middleArray) {
+      this.middleArray = middleArray;
+    }
+  }
+
+  public static class Middle {
+
+    private Inner inner;
+
+    public Inner getInner() {
+      return inner;
+    }
+
+    public void setInner(Inner inner) {
+      this.inner = inner;
+    }
+  }
+
+  public static class Inner {
+
+    private String value;
+
+    public Inner() {
+    }
+
+    public Inner(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+  }
+
+}
@@ -17,6 +17,9 @@ package org.dozer.propertydescriptor;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.dozer.AbstractDozerTest;
 import org.dozer.MappingException;
@@ -63,6 +66,24 @@ public class MapPropertyDescriptorTest extends AbstractDozerTest {
     assertTrue(Arrays.equals(new Class[]{String.class}, method.getParameterTypes()));
   }
 
+  @Test
+  public void testPlainMap() {
+    descriptor = new MapPropertyDescriptor(HashMap.class, "", false, 0, "put", "get", "key", null, null, beanContainer, destBeanCreator);
+    Map<String, Object> map = new HashMap<String, Object>();
+
+    descriptor.setPropertyValue(map, "value", null);
+
+    assertEquals("value", map.get("key"));
+    assertEquals("value", descriptor.getPropertyValue(map));
+  }
+
+  @Test(expected = MappingException.class)
+  public void testPlainMap_Unmodifiable() {
+    descriptor = new MapPropertyDescriptor(Map.class, "", false, 0, "put", "get", "key", null, null, beanContainer, destBeanCreator);
+
+    descriptor.setPropertyValue(Collections.emptyMap(), "value", null);
+  }
+
   private static class MapStructure {
 
     public Object get() {
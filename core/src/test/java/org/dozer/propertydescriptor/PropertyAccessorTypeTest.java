@@ -0,0 +1,176 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.propertydescriptor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.MappingException;
+import org.dozer.util.ReflectionUtils;
+import org.junit.Test;
+
+public class PropertyAccessorTypeTest extends AbstractDozerTest {
+
+    @Test
+    public void testReadAndWriteMethods() throws Exception {
+        for (PropertyAccessorType type : PropertyAccessorType.values()) {
+            Bean bean = new Bean();
+
+            type.createWriter(Bean.class.getMethod("setId", int.class)).writeInt(bean, 1);
+            type.createWriter(Bean.class.getMethod("setCount", long.class)).writeLong(bean, 2L);
+            type.createWriter(Bean.class.getMethod("setAmount", double.class)).writeDouble(bean, 3.5d);
+            type.createWriter(Bean.class.getMethod("setActive", boolean.class)).writeBoolean(bean, true);
+            type.createWriter(Bean.class.getMethod("setName", String.class)).write(bean, "name");
+
+            assertEquals(type.name(), 1, type.createReader(Bean.class.getMethod("getId")).readInt(bean));
+            assertEquals(type.name(), 2L, type.createReader(Bean.class.getMethod("getCount")).readLong(bean));
+            assertEquals(type.name(), 3.5d, type.createReader(Bean.class.getMethod("getAmount")).readDouble(bean), 0d);
+            assertTrue(type.name(), type.createReader(Bean.class.getMethod("isActive")).readBoolean(bean));
+            assertEquals(type.name(), "name", type.createReader(Bean.class.getMethod("getName")).read(bean));
+            assertEquals(type.name(), 1, type.createReader(Bean.class.getMethod("getId")).read(bean));
+        }
+    }
+
+    @Test
+    public void testReadAndWriteFields() {
+        Field field = ReflectionUtils.getFieldFromBean(HiddenBean.class, "value");
+        for (PropertyAccessorType type : PropertyAccessorType.values()) {
+            HiddenBean bean = new HiddenBean();
+
+            type.createWriter(field).write(bean, "value");
+
+            assertEquals(type.name(), "value", type.createReader(field).read(bean));
+        }
+    }
+
+    @Test
+    public void testNonPublicClass() throws Exception {
+        for (PropertyAccessorType type : PropertyAccessorType.values()) {
+            HiddenBean bean = new HiddenBean();
+
+            type.createWriter(HiddenBean.class.getMethod("setValue", String.class)).write(bean, "value");
+
+            assertEquals(type.name(), "value", type.createReader(HiddenBean.class.getMethod("getValue")).read(bean));
+        }
+    }
+
+    @Test
+    public void testExceptionsAreWrapped() throws Exception {
+        Method readMethod = Bean.class.getMethod("getFailure");
+        for (PropertyAccessorType type : PropertyAccessorType.values()) {
+            try {
+                type.createReader(readMethod).read(new Bean());
+                fail(type.name());
+            } catch (MappingException e) {
+                assertTrue(type.name(), e.getCause() instanceof InvocationTargetException);
+                assertTrue(type.name(),
+                    ((InvocationTargetException) e.getCause()).getTargetException() instanceof UnsupportedOperationException);
+            }
+        }
+    }
+
+    @Test
+    public void testTypeMismatchIsReported() throws Exception {
+        Method writeMethod = Bean.class.getMethod("setName", String.class);
+        for (PropertyAccessorType type : PropertyAccessorType.values()) {
+            try {
+                type.createWriter(writeMethod).write(new Bean(), 1);
+                fail(type.name());
+            } catch (MappingException e) {
+                assertTrue(type.name(), e.getMessage().startsWith("Illegal object type"));
+            }
+        }
+    }
+
+    @Test
+    public void testFromValue() {
+        assertEquals(PropertyAccessorType.REFLECTION, PropertyAccessorType.fromValue("reflection"));
+        assertEquals(PropertyAccessorType.METHOD_HANDLE, PropertyAccessorType.fromValue("method-handle"));
+        assertEquals(PropertyAccessorType.LAMBDA, PropertyAccessorType.fromValue("LAMBDA"));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testFromUnknownValue() {
+        PropertyAccessorType.fromValue("bytecode");
+    }
+
+    public static class Bean {
+        private int id;
+        private long count;
+        private double amount;
+        private boolean active;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getFailure() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static class HiddenBean {
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+}
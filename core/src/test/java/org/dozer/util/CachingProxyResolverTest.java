@@ -0,0 +1,74 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Calendar;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.functional_tests.runner.ProxyDataObjectInstantiator;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingProxyResolverTest extends AbstractDozerTest {
+
+  @Test
+  public void testResolvesProxyOnce() {
+    DozerProxyResolver delegate = spy(new DefaultProxyResolver());
+    DozerProxyResolver resolver = CachingProxyResolver.wrap(delegate);
+    Class<?> proxyClass = ProxyDataObjectInstantiator.INSTANCE.newInstance(Calendar.class).getClass();
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(resolver.isProxy(proxyClass));
+      assertEquals(Calendar.class, resolver.getRealClass(proxyClass));
+      assertFalse(resolver.isProxy(String.class));
+      assertEquals(String.class, resolver.getRealClass(String.class));
+    }
+
+    verify(delegate, times(1)).getRealClass(proxyClass);
+    verify(delegate, times(1)).getRealClass(String.class);
+  }
+
+  @Test
+  public void testUnenhancesProxiesOnly() {
+    DozerProxyResolver delegate = spy(new DefaultProxyResolver());
+    DozerProxyResolver resolver = CachingProxyResolver.wrap(delegate);
+    Object proxy = ProxyDataObjectInstantiator.INSTANCE.newInstance(Calendar.class);
+
+    assertEquals("value", resolver.unenhanceObject("value"));
+    assertNull(resolver.unenhanceObject(null));
+    verify(delegate, never()).unenhanceObject(any());
+
+    assertSame(proxy, resolver.unenhanceObject(proxy));
+    verify(delegate, times(1)).unenhanceObject(proxy);
+  }
+
+  @Test
+  public void testWrap() {
+    DozerProxyResolver resolver = CachingProxyResolver.wrap(mock(DozerProxyResolver.class));
+
+    assertTrue(resolver instanceof CachingProxyResolver);
+    assertSame(resolver, CachingProxyResolver.wrap(resolver));
+    assertTrue(CachingProxyResolver.wrap(new NoProxyResolver()) instanceof NoProxyResolver);
+    assertNull(CachingProxyResolver.wrap(null));
+  }
+
+}
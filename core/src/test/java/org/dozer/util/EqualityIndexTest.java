@@ -0,0 +1,117 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+public class EqualityIndexTest extends AbstractDozerTest {
+
+  @Test
+  public void testFindsFirstEqualElement() {
+    Key first = new Key(1);
+    Key second = new Key(1);
+    EqualityIndex index = new EqualityIndex(Arrays.asList(first, second, new Key(2)));
+
+    assertTrue(index.contains(new Key(1)));
+    assertSame(first, index.get(new Key(1)));
+    assertFalse(index.contains(new Key(3)));
+    assertNull(index.get(new Key(3)));
+  }
+
+  @Test
+  public void testNullElement() {
+    EqualityIndex index = new EqualityIndex(Collections.emptyList());
+    assertFalse(index.contains(null));
+
+    index.add(null);
+    assertTrue(index.contains(null));
+    assertNull(index.get(null));
+  }
+
+  @Test
+  public void testAddedElement() {
+    EqualityIndex index = new EqualityIndex(Collections.emptyList());
+    Key key = new Key(1);
+    index.add(key);
+
+    assertSame(key, index.get(new Key(1)));
+  }
+
+  @Test
+  public void testChangedElement() {
+    Key key = new Key(1);
+    EqualityIndex index = new EqualityIndex(Collections.singletonList(key));
+
+    key.id = 2;
+    index.add(key);
+
+    assertSame(key, index.get(new Key(2)));
+    assertFalse(index.contains(new Key(1)));
+  }
+
+  @Test
+  public void testFallsBackForEqualsWithoutHashCode() {
+    EqualsOnly first = new EqualsOnly(1);
+    List<Object> elements = new ArrayList<Object>();
+    elements.add(new Key(1));
+    elements.add(first);
+    EqualityIndex index = new EqualityIndex(elements);
+
+    assertSame(first, index.get(new EqualsOnly(1)));
+    assertTrue(index.contains(new Key(1)));
+    assertFalse(index.contains(new EqualsOnly(2)));
+  }
+
+  private static class Key {
+
+    private int id;
+
+    Key(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key && ((Key) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+  }
+
+  public static class EqualsOnly {
+
+    private final int id;
+
+    EqualsOnly(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualsOnly && ((EqualsOnly) o).id == id;
+    }
+  }
+
+}
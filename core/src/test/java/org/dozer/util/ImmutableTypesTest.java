@@ -0,0 +1,87 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+
+import org.dozer.AbstractDozerTest;
+import org.dozer.Immutable;
+import org.dozer.vo.enumtest.SrcType;
+import org.junit.Test;
+
+public class ImmutableTypesTest extends AbstractDozerTest {
+
+  @Test
+  public void testKnownImmutableTypes() {
+    assertTrue(ImmutableTypes.isImmutable(int.class));
+    assertTrue(ImmutableTypes.isImmutable(String.class));
+    assertTrue(ImmutableTypes.isImmutable(Integer.class));
+    assertTrue(ImmutableTypes.isImmutable(BigDecimal.class));
+    assertTrue(ImmutableTypes.isImmutable(UUID.class));
+    assertTrue(ImmutableTypes.isImmutable(SrcType.class));
+  }
+
+  @Test
+  public void testJavaTimeTypes() {
+    assertTrue(ImmutableTypes.isImmutable(Instant.class));
+    assertTrue(ImmutableTypes.isImmutable(LocalDate.class));
+    assertTrue(ImmutableTypes.isImmutable(ZoneOffset.class));
+    assertFalse(ImmutableTypes.isImmutable(ZoneId.class));
+  }
+
+  @Test
+  public void testMutableTypes() {
+    assertFalse(ImmutableTypes.isImmutable(null));
+    assertFalse(ImmutableTypes.isImmutable(Date.class));
+    assertFalse(ImmutableTypes.isImmutable(ArrayList.class));
+    assertFalse(ImmutableTypes.isImmutable(Object.class));
+    assertFalse(ImmutableTypes.isImmutable(Money.class));
+  }
+
+  @Test
+  public void testAnnotatedType() {
+    assertTrue(ImmutableTypes.isImmutable(Amount.class));
+    assertFalse(ImmutableTypes.isImmutable(ExtendedAmount.class));
+  }
+
+  @Immutable
+  public static class Amount {
+  }
+
+  public static class ExtendedAmount extends Amount {
+  }
+
+  public static final class Money {
+
+    private BigDecimal value;
+
+    public BigDecimal getValue() {
+      return value;
+    }
+
+    public void setValue(BigDecimal value) {
+      this.value = value;
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dozer.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dozer.AbstractDozerTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class PrimitiveArrayUtilsTest extends AbstractDozerTest {
+
+  @Test
+  public void testIsWidening() {
+    assertTrue(PrimitiveArrayUtils.isWidening(int.class, long.class));
+    assertTrue(PrimitiveArrayUtils.isWidening(byte.class, short.class));
+    assertTrue(PrimitiveArrayUtils.isWidening(long.class, float.class));
+    assertFalse(PrimitiveArrayUtils.isWidening(int.class, int.class));
+    assertFalse(PrimitiveArrayUtils.isWidening(long.class, int.class));
+    assertFalse(PrimitiveArrayUtils.isWidening(char.class, int.class));
+    assertFalse(PrimitiveArrayUtils.isWidening(int.class, char.class));
+    assertFalse(PrimitiveArrayUtils.isWidening(boolean.class, int.class));
+  }
+
+  @Test
+  public void testCopy() {
+    long[] longs = new long[4];
+    longs[0] = 7;
+    PrimitiveArrayUtils.copy(new int[] {1, -2, 3}, longs, 1);
+    assertArrayEquals(new long[] {7, 1, -2, 3}, longs);
+
+    double[] doubles = new double[2];
+    PrimitiveArrayUtils.copy(new float[] {1.5f, -0.25f}, doubles, 0);
+    assertArrayEquals(new double[] {1.5, -0.25}, doubles, 0);
+
+    float[] floats = new float[1];
+    PrimitiveArrayUtils.copy(new long[] {Long.MAX_VALUE - 1}, floats, 0);
+    assertEquals((float) (Long.MAX_VALUE - 1), floats[0], 0);
+
+    int[] ints = new int[2];
+    PrimitiveArrayUtils.copy(new int[] {4, 5}, ints, 0);
+    assertArrayEquals(new int[] {4, 5}, ints);
+  }
+
+  @Test
+  public void testToList() {
+    assertEquals(Arrays.<Object>asList(1, 2), PrimitiveArrayUtils.toList(new int[] {1, 2}));
+    assertEquals(Arrays.<Object>asList(1.5d), PrimitiveArrayUtils.toList(new double[] {1.5}));
+    assertEquals(Arrays.<Object>asList('a', 'b'), PrimitiveArrayUtils.toList(new char[] {'a', 'b'}));
+    assertEquals(Arrays.<Object>asList(true), PrimitiveArrayUtils.toList(new boolean[] {true}));
+  }
+
+  @Test
+  public void testToPrimitiveArray() {
+    List<Long> longs = Arrays.asList(1L, 2L);
+    assertArrayEquals(new long[] {1, 2}, (long[]) PrimitiveArrayUtils.toPrimitiveArray(longs, long.class));
+    assertArrayEquals(new byte[] {3}, (byte[]) PrimitiveArrayUtils.toPrimitiveArray(Arrays.asList((byte) 3), byte.class));
+  }
+
+  @Test
+  public void testToPrimitiveArray_OtherType() {
+    assertNull(PrimitiveArrayUtils.toPrimitiveArray(Arrays.asList(1, 2L), long.class));
+    assertNull(PrimitiveArrayUtils.toPrimitiveArray(Arrays.asList(1L, null), long.class));
+  }
+
+}
@@ -31,6 +31,7 @@ import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.propertydescriptor.AbstractPropertyDescriptor;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
 import org.dozer.util.DeepHierarchyUtils;
 import org.dozer.util.MappingUtils;
@@ -51,6 +52,7 @@ public class ProtoFieldPropertyDescriptor extends AbstractPropertyDescriptor {
     private Class<?> propertyType;
     private Class<?> genericType;
     private Descriptors.FieldDescriptor fieldDescriptor;
+    private DozerPropertyDescriptor[] deepHierarchy;
 
     /**
      * {@link org.dozer.propertydescriptor.DozerPropertyDescriptor} which resolves Protobuf fields
@@ -113,7 +115,12 @@ public class ProtoFieldPropertyDescriptor extends AbstractPropertyDescriptor {
     public Object getPropertyValue(Object bean) {
         Object result;
         if (MappingUtils.isDeepMapping(fieldName)) {
-            result = DeepHierarchyUtils.getDeepFieldValue(bean, fieldName, isIndexed, index, srcDeepIndexHintContainer, beanContainer, destBeanCreator, propertyDescriptorFactory);
+            if (bean.getClass() == clazz) {
+                result = DeepHierarchyUtils.getDeepFieldValue(bean, getDeepHierarchy(), isIndexed, index);
+            } else {
+                result = DeepHierarchyUtils.getDeepFieldValue(bean, fieldName, isIndexed, index, srcDeepIndexHintContainer, beanContainer, destBeanCreator,
+                                                              propertyDescriptorFactory);
+            }
         } else {
             result = getSimplePropertyValue(bean);
             if (isIndexed) {
@@ -123,6 +130,15 @@ public class ProtoFieldPropertyDescriptor extends AbstractPropertyDescriptor {
         return result;
     }
 
+    private DozerPropertyDescriptor[] getDeepHierarchy() {
+        if (this.deepHierarchy == null) {
+            this.deepHierarchy = DeepHierarchyUtils.getDeepFieldHierarchy(clazz, fieldName, srcDeepIndexHintContainer, beanContainer, destBeanCreator,
+                                                                          propertyDescriptorFactory);
+        }
+
+        return this.deepHierarchy;
+    }
+
     private Object getSimplePropertyValue(Object bean) {
         //proto builder can't contains already created object and even if contain - it's fields can't be changed
         if (bean instanceof BeanBuilder) {
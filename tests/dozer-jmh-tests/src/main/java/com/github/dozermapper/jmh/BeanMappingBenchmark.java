@@ -0,0 +1,133 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.dozermapper.jmh.model.DateBean;
+import com.github.dozermapper.jmh.model.DateDto;
+import com.github.dozermapper.jmh.model.FlatBean;
+import com.github.dozermapper.jmh.model.FlatBeanDto;
+import com.github.dozermapper.jmh.model.Invoice;
+import com.github.dozermapper.jmh.model.InvoiceDto;
+import com.github.dozermapper.jmh.model.Manager;
+import com.github.dozermapper.jmh.model.ManagerDto;
+import com.github.dozermapper.jmh.model.Order;
+import com.github.dozermapper.jmh.model.OrderDto;
+import com.github.dozermapper.jmh.model.PrimitiveBean;
+import com.github.dozermapper.jmh.model.WrapperBean;
+
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.NoOp;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps single objects with a mapper built once per trial, one benchmark per mapping feature.
+ */
+@State(Scope.Benchmark)
+public class BeanMappingBenchmark {
+
+    private Mapper mapper;
+
+    private FlatBean flatBean;
+    private FlatBean proxiedFlatBean;
+    private Map<String, Object> flatBeanMap;
+    private PrimitiveBean primitiveBean;
+    private WrapperBean wrapperBean;
+    private DateBean dateBean;
+    private Order order;
+    private Invoice invoice;
+    private Manager manager;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.create()
+                .withMappingFiles("mappings/benchmark-mappings.xml")
+                .build();
+
+        flatBean = BenchmarkData.flatBean(1);
+        proxiedFlatBean = BenchmarkData.fill((FlatBean) Enhancer.create(FlatBean.class, NoOp.INSTANCE), 1);
+        flatBeanMap = mapper.map(flatBean, HashMap.class);
+        primitiveBean = BenchmarkData.primitiveBean();
+        wrapperBean = mapper.map(primitiveBean, WrapperBean.class);
+        dateBean = BenchmarkData.dateBean();
+        order = BenchmarkData.order();
+        invoice = BenchmarkData.invoice();
+        manager = BenchmarkData.manager();
+    }
+
+    @Benchmark
+    public FlatBeanDto mapFlatBean() {
+        return mapper.map(flatBean, FlatBeanDto.class);
+    }
+
+    @Benchmark
+    public FlatBeanDto mapFlatBeanByMapId() {
+        return mapper.map(flatBean, FlatBeanDto.class, "summary");
+    }
+
+    @Benchmark
+    public FlatBeanDto mapProxy() {
+        return mapper.map(proxiedFlatBean, FlatBeanDto.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> mapBeanToMap() {
+        return mapper.map(flatBean, HashMap.class);
+    }
+
+    @Benchmark
+    public FlatBean mapMapToBean() {
+        return mapper.map(flatBeanMap, FlatBean.class);
+    }
+
+    @Benchmark
+    public WrapperBean mapPrimitivesToWrappers() {
+        return mapper.map(primitiveBean, WrapperBean.class);
+    }
+
+    @Benchmark
+    public PrimitiveBean mapWrappersToPrimitives() {
+        return mapper.map(wrapperBean, PrimitiveBean.class);
+    }
+
+    @Benchmark
+    public DateDto mapDates() {
+        return mapper.map(dateBean, DateDto.class);
+    }
+
+    @Benchmark
+    public OrderDto mapDeepPaths() {
+        return mapper.map(order, OrderDto.class);
+    }
+
+    @Benchmark
+    public InvoiceDto mapWithCustomConverter() {
+        return mapper.map(invoice, InvoiceDto.class);
+    }
+
+    @Benchmark
+    public ManagerDto mapInheritance() {
+        return mapper.map(manager, ManagerDto.class);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.jmh;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import com.github.dozermapper.jmh.model.Address;
+import com.github.dozermapper.jmh.model.Container;
+import com.github.dozermapper.jmh.model.Customer;
+import com.github.dozermapper.jmh.model.DateBean;
+import com.github.dozermapper.jmh.model.FlatBean;
+import com.github.dozermapper.jmh.model.Invoice;
+import com.github.dozermapper.jmh.model.Manager;
+import com.github.dozermapper.jmh.model.Money;
+import com.github.dozermapper.jmh.model.Order;
+import com.github.dozermapper.jmh.model.PrimitiveBean;
+
+/**
+ * Source objects mapped by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static <T extends FlatBean> T fill(T bean, int index) {
+        bean.setName("name" + index);
+        bean.setAge(20 + index % 50);
+        bean.setId(index);
+        bean.setActive(index % 2 == 0);
+        bean.setScore(index * 0.5d);
+        bean.setEmail("user" + index + "@example.com");
+        bean.setRank(index % 10);
+        bean.setVersion((long) index);
+        return bean;
+    }
+
+    static FlatBean flatBean(int index) {
+        return fill(new FlatBean(), index);
+    }
+
+    static Container container(int size) {
+        List<FlatBean> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(flatBean(i));
+        }
+        Container container = new Container();
+        container.setItems(items);
+        return container;
+    }
+
+    static PrimitiveBean primitiveBean() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setIntValue(42);
+        bean.setLongValue(42L);
+        bean.setDoubleValue(42.5d);
+        bean.setBooleanValue(true);
+        bean.setNumberText("42");
+        return bean;
+    }
+
+    static DateBean dateBean() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2017, Calendar.JUNE, 8, 12, 30, 0);
+        DateBean bean = new DateBean();
+        bean.setCreated(calendar.getTime());
+        bean.setUpdated(calendar);
+        bean.setDay("2017-06-08");
+        return bean;
+    }
+
+    static Order order() {
+        Address address = new Address();
+        address.setStreet("Main Street 1");
+        address.setCity("Riga");
+        Customer customer = new Customer();
+        customer.setName("bob");
+        customer.setAddress(address);
+        Order order = new Order();
+        order.setId(1L);
+        order.setCustomer(customer);
+        return order;
+    }
+
+    static Invoice invoice() {
+        Money total = new Money();
+        total.setAmount(new BigDecimal("99.95"));
+        total.setCurrency("EUR");
+        Invoice invoice = new Invoice();
+        invoice.setNumber("INV-1");
+        invoice.setTotal(total);
+        return invoice;
+    }
+
+    static Manager manager() {
+        Manager manager = new Manager();
+        manager.setName("alice");
+        manager.setDepartment("engineering");
+        manager.setReports(7);
+        return manager;
+    }
+}
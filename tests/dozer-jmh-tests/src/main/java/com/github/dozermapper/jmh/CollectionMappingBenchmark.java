@@ -0,0 +1,67 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.jmh;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.dozermapper.jmh.model.Container;
+import com.github.dozermapper.jmh.model.ContainerDto;
+import com.github.dozermapper.jmh.model.FlatBeanDto;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps collections of flat beans, as a collection field and through the batch mapping API.
+ */
+@State(Scope.Benchmark)
+public class CollectionMappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Mapper mapper;
+    private Container container;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.create()
+                .withMappingFiles("mappings/benchmark-mappings.xml")
+                .build();
+        container = BenchmarkData.container(size);
+    }
+
+    @Benchmark
+    public ContainerDto mapCollectionField() {
+        return mapper.map(container, ContainerDto.class);
+    }
+
+    @Benchmark
+    public List<FlatBeanDto> mapAll() {
+        return mapper.mapAll(container.getItems(), FlatBeanDto.class);
+    }
+
+    @Benchmark
+    public List<FlatBeanDto> mapAllParallel() {
+        return mapper.mapAll(container.getItems(), FlatBeanDto.class, null, ForkJoinPool.commonPool());
+    }
+}
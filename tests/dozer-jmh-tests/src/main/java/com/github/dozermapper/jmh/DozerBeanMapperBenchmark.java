@@ -50,15 +50,35 @@ import com.github.dozermapper.jmh.model.Person;
 import org.dozer.DozerBeanMapperBuilder;
 import org.dozer.Mapper;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 
+@State(Scope.Benchmark)
 public class DozerBeanMapperBenchmark {
 
+    private Mapper mapper;
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        mapper = createMapper();
+        person = new Person("bob");
+    }
+
+    @Benchmark
+    public Mapper buildMapper() {
+        return createMapper();
+    }
+
     @Benchmark
     public Person mapSimpleSameTypes() {
-        Mapper mapper = DozerBeanMapperBuilder.create()
+        return mapper.map(person, Person.class);
+    }
+
+    private static Mapper createMapper() {
+        return DozerBeanMapperBuilder.create()
                 .withMappingFiles("mappings/simple-sametypes.xml")
                 .build();
-
-        return mapper.map(new Person("bob"), Person.class);
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.jmh;
+
+import com.github.dozermapper.jmh.model.FlatBean;
+import com.github.dozermapper.jmh.model.proto.BenchmarkObjects.ProtoPerson;
+
+import org.dozer.DozerBeanMapperBuilder;
+import org.dozer.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Maps between beans and protobuf messages through the dozer-proto module.
+ */
+@State(Scope.Benchmark)
+public class ProtobufMappingBenchmark {
+
+    private Mapper mapper;
+    private FlatBean flatBean;
+    private ProtoPerson protoPerson;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.buildDefault();
+        flatBean = BenchmarkData.flatBean(1);
+        protoPerson = ProtoPerson.newBuilder()
+                .setName("bob")
+                .setAge(42)
+                .setEmail("bob@example.com")
+                .build();
+    }
+
+    @Benchmark
+    public ProtoPerson mapBeanToProto() {
+        return mapper.map(flatBean, ProtoPerson.class);
+    }
+
+    @Benchmark
+    public FlatBean mapProtoToBean() {
+        return mapper.map(protoPerson, FlatBean.class);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2005-2017 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.jmh.converter;
+
+import java.math.BigDecimal;
+
+import com.github.dozermapper.jmh.model.Money;
+
+import org.dozer.DozerConverter;
+
+public class MoneyConverter extends DozerConverter<Money, String> {
+
+    public MoneyConverter() {
+        super(Money.class, String.class);
+    }
+
+    @Override
+    public String convertTo(Money source, String destination) {
+        if (source == null) {
+            return null;
+        }
+        return source.getAmount().toPlainString() + " " + source.getCurrency();
+    }
+
+    @Override
+    public Money convertFrom(String source, Money destination) {
+        if (source == null) {
+            return null;
+        }
+        int separator = source.indexOf(' ');
+        Money money = new Money();
+        money.setAmount(new BigDecimal(source.substring(0, separator)));
+        money.setCurrency(source.substring(separator + 1));
+        return money;
+    }
+}